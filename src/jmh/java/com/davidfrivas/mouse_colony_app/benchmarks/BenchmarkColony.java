@@ -0,0 +1,28 @@
+package com.davidfrivas.mouse_colony_app.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Ids of a generated colony; lists of per-lab values are indexed like labIds
+record BenchmarkColony(
+        List<Long> labIds,
+        List<Long> userIds,
+        List<Long> protocolIds,
+        List<Long> parentMouseIds,
+        List<List<Long>> availableMiceByLab
+) {
+    // Words that occur in generated log entries
+    static final String[] SEARCH_TERMS = {"cage", "weaning", "genotyping", "health check", "tail biopsy", "timed mating"};
+
+    int randomLab() {
+        return ThreadLocalRandom.current().nextInt(labIds.size());
+    }
+
+    Long randomParent() {
+        return parentMouseIds.get(ThreadLocalRandom.current().nextInt(parentMouseIds.size()));
+    }
+
+    String randomSearchTerm() {
+        return SEARCH_TERMS[ThreadLocalRandom.current().nextInt(SEARCH_TERMS.length)];
+    }
+}
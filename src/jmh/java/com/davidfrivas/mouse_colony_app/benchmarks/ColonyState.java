@@ -0,0 +1,90 @@
+package com.davidfrivas.mouse_colony_app.benchmarks;
+
+import com.davidfrivas.mouse_colony_app.MouseColonyAppApplication;
+import com.davidfrivas.mouse_colony_app.config.ColonyGeneratorProperties;
+import com.davidfrivas.mouse_colony_app.dtos.ColonyGenerationReport;
+import com.davidfrivas.mouse_colony_app.services.ColonyGeneratorService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Boots the application (without the web server) and generates a colony once per trial
+// Colony size is set with JMH parameters, e.g. -p labs=50 -p breedingPairsPerLab=500
+@State(Scope.Benchmark)
+public class ColonyState {
+    @Param("10")
+    public int labs;
+    @Param("250")
+    public int foundersPerLab;
+    @Param("3")
+    public int generations;
+    @Param("40")
+    public int breedingPairsPerLab;
+    @Param("500")
+    public int logEntriesPerLab;
+    @Param("50")
+    public int requestsPerLab;
+    @Param("42")
+    public long seed;
+
+    ConfigurableApplicationContext context;
+    BenchmarkColony colony;
+    private ColonyGenerationReport report;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(MouseColonyAppApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("bench")
+                .run();
+        report = bean(ColonyGeneratorService.class).generate(new ColonyGeneratorProperties(
+                false, seed, labs, 3, 2, foundersPerLab, generations, breedingPairsPerLab, 4, 10, 0.3,
+                logEntriesPerLab, 3, requestsPerLab, 0.5, 0.15, 0.1, LocalDate.now(), 5000));
+        colony = load(report);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        try {
+            bean(ColonyGeneratorService.class).deleteColony(report);
+        } finally {
+            context.close();
+        }
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private BenchmarkColony load(ColonyGenerationReport report) {
+        JdbcTemplate jdbc = bean(JdbcTemplate.class);
+        List<Long> labIds = new ArrayList<>();
+        List<Long> userIds = new ArrayList<>();
+        List<Long> protocolIds = new ArrayList<>();
+        List<List<Long>> availableMiceByLab = new ArrayList<>();
+        for (int i = 0; i < report.labs(); i++) {
+            labIds.add(report.labId(i));
+            userIds.add(report.userId(i, 0));
+            protocolIds.add(report.protocolId(i, 0));
+            availableMiceByLab.add(jdbc.queryForList(
+                    "SELECT mouse_id FROM mouse WHERE lab_id = ? AND availability = TRUE", Long.class, report.labId(i)));
+        }
+        List<Long> parents = jdbc.queryForList(
+                "SELECT DISTINCT mother_id FROM litter WHERE lab_id BETWEEN ? AND ?", Long.class, firstLab(), lastLab());
+        return new BenchmarkColony(labIds, userIds, protocolIds, parents, availableMiceByLab);
+    }
+
+    private long firstLab() {
+        return report.firstLabId();
+    }
+
+    private long lastLab() {
+        return report.labId(report.labs() - 1);
+    }
+}
@@ -0,0 +1,81 @@
+package com.davidfrivas.mouse_colony_app.benchmarks;
+
+import com.davidfrivas.mouse_colony_app.entities.LogEntry;
+import com.davidfrivas.mouse_colony_app.entities.Mouse;
+import com.davidfrivas.mouse_colony_app.entities.MouseRequest;
+import com.davidfrivas.mouse_colony_app.services.LogEntryService;
+import com.davidfrivas.mouse_colony_app.services.MouseRequestService;
+import com.davidfrivas.mouse_colony_app.services.MouseService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Create paths of the service layer; every created row belongs to a generated lab and is removed with the colony
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreatePathBenchmarks {
+    private BenchmarkColony colony;
+    private MouseService mouseService;
+    private LogEntryService logEntryService;
+    private MouseRequestService requestService;
+
+    @Setup(Level.Trial)
+    public void setUp(ColonyState state) {
+        colony = state.colony;
+        mouseService = state.bean(MouseService.class);
+        logEntryService = state.bean(LogEntryService.class);
+        requestService = state.bean(MouseRequestService.class);
+    }
+
+    @Benchmark
+    public Mouse createMouse() {
+        int lab = colony.randomLab();
+        Mouse mouse = Mouse.builder()
+                .name("bench-mouse")
+                .sex(Mouse.Sex.F)
+                .genotype("WT")
+                .strain("C57BL/6J")
+                .dateOfBirth(LocalDate.now())
+                .build();
+        return mouseService.createMouse(mouse, colony.labIds().get(lab), colony.protocolIds().get(lab), colony.userIds().get(lab));
+    }
+
+    @Benchmark
+    public LogEntry createLogEntry() {
+        int lab = colony.randomLab();
+        LogEntry entry = LogEntry.builder().content("Cage change, " + colony.randomSearchTerm()).build();
+        return logEntryService.createLogEntry(entry, colony.userIds().get(lab), colony.labIds().get(lab));
+    }
+
+    @Benchmark
+    public LogEntry createLogEntryWithMice() {
+        int lab = colony.randomLab();
+        List<Long> mice = colony.availableMiceByLab().get(lab);
+        Set<Long> mouseIds = new HashSet<>();
+        for (int i = 0; i < 5 && !mice.isEmpty(); i++) {
+            mouseIds.add(mice.get(ThreadLocalRandom.current().nextInt(mice.size())));
+        }
+        LogEntry entry = LogEntry.builder().content("Cage change, " + colony.randomSearchTerm()).build();
+        return logEntryService.createLogEntryWithMice(entry, colony.userIds().get(lab), colony.labIds().get(lab), mouseIds);
+    }
+
+    // Pending requests don't change availability, so the same mice can be requested repeatedly
+    @Benchmark
+    public MouseRequest createRequest() {
+        int to = colony.randomLab();
+        int from = (to + 1) % colony.labIds().size();
+        List<Long> mice = colony.availableMiceByLab().get(from);
+        MouseRequest request = MouseRequest.builder().message("Benchmark request").build();
+        return requestService.createRequest(request, colony.userIds().get(to),
+                mice.get(ThreadLocalRandom.current().nextInt(mice.size())), colony.labIds().get(from), colony.labIds().get(to));
+    }
+}
@@ -0,0 +1,111 @@
+package com.davidfrivas.mouse_colony_app.benchmarks;
+
+import com.davidfrivas.mouse_colony_app.services.KinshipPedigree;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Kinship engine on a synthetic in-memory pedigree (no database), sized by the candidate breeder count
+// Each lab breeds closed for the given generations with an occasional male from another lab;
+// the last generation are the candidates, e.g. -p candidates=50000 -p labs=100
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class KinshipBenchmarks {
+    private static final int PAIRS_PER_LAB = 10;
+    private static final int MALES_PER_FEMALE = 32;
+
+    @Param("50000")
+    public int candidates;
+    @Param("100")
+    public int labs;
+    @Param("6")
+    public int generations;
+    @Param("42")
+    public long seed;
+
+    private long[] mouseIds;
+    private long[] fatherIds;
+    private long[] motherIds;
+    private KinshipPedigree pedigree;
+    private int[][] females;
+    private int[][] males;
+
+    @Setup(Level.Trial)
+    public void buildColony() {
+        SplittableRandom random = new SplittableRandom(seed);
+        int perLab = candidates / labs;
+        List<long[]> animals = new ArrayList<>(); // {id, fatherId, motherId, sex (0 M, 1 F)}
+        List<List<long[]>> previous = new ArrayList<>();
+        long nextId = 1;
+
+        for (int lab = 0; lab < labs; lab++) {
+            List<long[]> founders = new ArrayList<>(perLab);
+            for (int i = 0; i < perLab; i++) {
+                long[] founder = {nextId++, 0, 0, i % 2};
+                founders.add(founder);
+                animals.add(founder);
+            }
+            previous.add(founders);
+        }
+
+        for (int generation = 0; generation < generations; generation++) {
+            List<List<long[]>> current = new ArrayList<>(labs);
+            for (int lab = 0; lab < labs; lab++) {
+                List<long[]> damPool = ofSex(previous.get(lab), 1);
+                List<long[]> sirePool = ofSex(previous.get(lab), 0);
+                List<long[]> pups = new ArrayList<>(perLab);
+                while (pups.size() < perLab) {
+                    long[] dam = damPool.get(random.nextInt(damPool.size()));
+                    List<long[]> sires = random.nextInt(20) == 0 ? ofSex(previous.get(random.nextInt(labs)), 0) : sirePool;
+                    long[] sire = sires.get(random.nextInt(sires.size()));
+                    int litterSize = 4 + random.nextInt(7);
+                    for (int k = 0; k < litterSize && pups.size() < perLab; k++) {
+                        long[] pup = {nextId++, sire[0], dam[0], random.nextInt(2)};
+                        pups.add(pup);
+                        animals.add(pup);
+                    }
+                }
+                current.add(pups);
+            }
+            previous = current;
+        }
+
+        mouseIds = animals.stream().mapToLong(a -> a[0]).toArray();
+        fatherIds = animals.stream().mapToLong(a -> a[1]).toArray();
+        motherIds = animals.stream().mapToLong(a -> a[2]).toArray();
+        pedigree = KinshipPedigree.of(mouseIds, fatherIds, motherIds);
+
+        females = new int[labs][];
+        males = new int[labs][];
+        for (int lab = 0; lab < labs; lab++) {
+            females[lab] = ofSex(previous.get(lab), 1).stream().mapToInt(a -> pedigree.indexOf(a[0])).toArray();
+            males[lab] = ofSex(previous.get(lab), 0).stream().mapToInt(a -> pedigree.indexOf(a[0])).toArray();
+        }
+    }
+
+    // Ordering plus inbreeding coefficients for every animal (sequential)
+    @Benchmark
+    public KinshipPedigree buildPedigree() {
+        return KinshipPedigree.of(mouseIds, fatherIds, motherIds);
+    }
+
+    // Same fan-out as BreedingRecommendationService: labs in parallel, each lab's females in parallel
+    @Benchmark
+    public List<List<KinshipPedigree.Pairing>> recommendAllLabs() {
+        return IntStream.range(0, labs).parallel()
+                .mapToObj(lab -> pedigree.lowestKinshipPairs(females[lab], males[lab], PAIRS_PER_LAB, MALES_PER_FEMALE))
+                .toList();
+    }
+
+    private static List<long[]> ofSex(List<long[]> animals, int sex) {
+        return animals.stream().filter(a -> a[3] == sex).toList();
+    }
+}
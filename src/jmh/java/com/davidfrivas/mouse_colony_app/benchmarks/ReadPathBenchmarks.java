@@ -0,0 +1,54 @@
+package com.davidfrivas.mouse_colony_app.benchmarks;
+
+import com.davidfrivas.mouse_colony_app.entities.LogEntry;
+import com.davidfrivas.mouse_colony_app.entities.Mouse;
+import com.davidfrivas.mouse_colony_app.entities.MouseRequest;
+import com.davidfrivas.mouse_colony_app.services.LogEntryService;
+import com.davidfrivas.mouse_colony_app.services.MouseRequestService;
+import com.davidfrivas.mouse_colony_app.services.MouseService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Hot read paths of the service layer against a generated colony
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmarks {
+    private BenchmarkColony colony;
+    private MouseService mouseService;
+    private LogEntryService logEntryService;
+    private MouseRequestService requestService;
+
+    @Setup(Level.Trial)
+    public void setUp(ColonyState state) {
+        colony = state.colony;
+        mouseService = state.bean(MouseService.class);
+        logEntryService = state.bean(LogEntryService.class);
+        requestService = state.bean(MouseRequestService.class);
+    }
+
+    @Benchmark
+    public List<Mouse> availableMiceByLab() {
+        return mouseService.getAvailableMiceByLab(colony.labIds().get(colony.randomLab()));
+    }
+
+    @Benchmark
+    public List<Mouse> offspring() {
+        return mouseService.getOffspring(colony.randomParent());
+    }
+
+    @Benchmark
+    public List<LogEntry> searchLogEntriesByKeyword() {
+        return logEntryService.searchLogEntriesByKeyword(colony.randomSearchTerm());
+    }
+
+    @Benchmark
+    public List<MouseRequest> pendingRequestsForLab() {
+        return requestService.getPendingRequestsForLab(colony.labIds().get(colony.randomLab()));
+    }
+}
@@ -0,0 +1,91 @@
+package com.davidfrivas.mouse_colony_app.loadtest;
+
+import com.davidfrivas.mouse_colony_app.MouseColonyAppApplication;
+import com.davidfrivas.mouse_colony_app.dtos.ColonyGenerationReport;
+import com.davidfrivas.mouse_colony_app.services.ColonyGeneratorService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+// Starts the app in-process against the local database, generates a colony, drives the mixed workload
+// at the planned arrival rates and reports p50/p99/p99.9 per operation; exits non-zero if any SLO is missed
+// mvn -P loadtest -DskipTests verify -Dloadtest.args="--loadtest.duration=5m --loadtest.operations.search-log-entries.rate=100"
+public final class LoadTest {
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        boolean passed = false;
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MouseColonyAppApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("loadtest")
+                .run(args);
+        try {
+            LoadTestPlan plan = Binder.get(context.getEnvironment()).bind("loadtest", LoadTestPlan.class)
+                    .orElseThrow(() -> new IllegalStateException("No loadtest.* plan configured"));
+            ColonyGeneratorService generator = context.getBean(ColonyGeneratorService.class);
+            ColonyGenerationReport colony = generator.generate();
+            try {
+                List<OperationReport> reports = run(plan, new Workload(context, colony));
+                print(reports);
+                context.getBean(ObjectMapper.class).writerWithDefaultPrettyPrinter()
+                        .writeValue(new File("target/loadtest-report.json"), reports);
+                passed = reports.stream().allMatch(OperationReport::passed);
+            } finally {
+                generator.deleteColony(colony);
+            }
+        } finally {
+            context.close();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static List<OperationReport> run(LoadTestPlan plan, Workload workload) throws InterruptedException {
+        Map<String, BooleanSupplier> operations = workload.operations();
+        List<OpenLoadDriver> drivers = new ArrayList<>();
+        List<Thread> dispatchers = new ArrayList<>();
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            plan.operations().forEach((name, operationPlan) -> {
+                BooleanSupplier operation = operations.get(name);
+                if (operation == null) {
+                    throw new IllegalArgumentException("Unknown operation " + name + ", expected one of " + operations.keySet());
+                }
+                OpenLoadDriver driver = new OpenLoadDriver(name, operationPlan, operation, executor,
+                        start, plan.warmup(), plan.duration());
+                drivers.add(driver);
+                dispatchers.add(Thread.ofPlatform().name("load-" + name).start(driver));
+            });
+            for (Thread dispatcher : dispatchers) {
+                dispatcher.join();
+            }
+            // Calls still in flight are part of the run; closing the executor waits for them
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        return drivers.stream().map(OpenLoadDriver::report).toList();
+    }
+
+    private static void print(List<OperationReport> reports) {
+        System.out.printf("%n%-24s %8s %9s %7s %8s %9s %9s %9s %9s  %s%n",
+                "operation", "rate/s", "calls", "errors", "skipped", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "result");
+        for (OperationReport r : reports) {
+            System.out.printf("%-24s %8.1f %9d %7d %8d %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    r.operation(), r.rate(), r.calls(), r.errors(), r.skipped(), r.p50(), r.p99(), r.p999(), r.max(),
+                    r.passed() ? "PASS" : "FAIL " + String.join(", ", r.violations()));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.davidfrivas.mouse_colony_app.loadtest;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+// What to run and what counts as passing (loadtest.* in application-loadtest.yaml, overridable with --loadtest.x=y)
+record LoadTestPlan(
+        // Measured run, after the warmup
+        @DefaultValue("60s") Duration duration,
+        // Load applied but not recorded (JIT, connection pool, caches)
+        @DefaultValue("15s") Duration warmup,
+        // Operations keyed by name (see Workload), each with its own arrival rate and SLO
+        Map<String, OperationPlan> operations
+) {
+    record OperationPlan(
+            // Requests started per second, independent of how fast earlier ones complete
+            double rate,
+            Duration p50,
+            Duration p99,
+            Duration p999,
+            // Share of calls allowed to throw (e.g. a request whose mouse was just taken)
+            @DefaultValue("0.01") double maxErrorRate
+    ) {
+    }
+}
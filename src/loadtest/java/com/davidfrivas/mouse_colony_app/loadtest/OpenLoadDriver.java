@@ -0,0 +1,108 @@
+package com.davidfrivas.mouse_colony_app.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-model load for one operation: calls start on a fixed schedule whether or not earlier calls finished,
+// and latency is taken from the scheduled start, so a stalled server shows up as queueing time
+// instead of silently lowering the offered load (coordinated omission)
+final class OpenLoadDriver implements Runnable {
+    private final String name;
+    private final LoadTestPlan.OperationPlan plan;
+    private final BooleanSupplier operation;
+    private final ExecutorService executor;
+    private final long start;
+    private final long warmupEnd;
+    private final long end;
+
+    private final Recorder recorder = new Recorder(3);
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    // Calls where the operation had nothing to do; neither timed nor counted as calls
+    private final LongAdder skipped = new LongAdder();
+
+    OpenLoadDriver(String name, LoadTestPlan.OperationPlan plan, BooleanSupplier operation, ExecutorService executor,
+                   long startNanos, Duration warmup, Duration duration) {
+        this.name = name;
+        this.plan = plan;
+        this.operation = operation;
+        this.executor = executor;
+        this.start = startNanos;
+        this.warmupEnd = startNanos + warmup.toNanos();
+        this.end = warmupEnd + duration.toNanos();
+    }
+
+    // Dispatch loop, runs on its own platform thread until the run ends
+    @Override
+    public void run() {
+        long interval = (long) (1_000_000_000L / plan.rate());
+        for (long intended = start; intended < end; intended += interval) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long scheduled = intended;
+            executor.execute(() -> call(scheduled));
+        }
+    }
+
+    private void call(long scheduled) {
+        boolean failed = false;
+        boolean performed = true;
+        try {
+            performed = operation.getAsBoolean();
+        } catch (RuntimeException e) {
+            failed = true;
+        }
+        if (scheduled >= warmupEnd && !performed) {
+            skipped.increment();
+        } else if (scheduled >= warmupEnd) {
+            recorder.recordValue(System.nanoTime() - scheduled);
+            calls.increment();
+            if (failed) {
+                errors.increment();
+            }
+        }
+    }
+
+    OperationReport report() {
+        Histogram histogram = recorder.getIntervalHistogram();
+        double p50 = millis(histogram.getValueAtPercentile(50));
+        double p99 = millis(histogram.getValueAtPercentile(99));
+        double p999 = millis(histogram.getValueAtPercentile(99.9));
+
+        List<String> violations = new ArrayList<>();
+        check(violations, "p50", p50, plan.p50());
+        check(violations, "p99", p99, plan.p99());
+        check(violations, "p99.9", p999, plan.p999());
+        long callCount = calls.sum();
+        double errorRate = callCount == 0 ? 0 : (double) errors.sum() / callCount;
+        if (errorRate > plan.maxErrorRate()) {
+            violations.add(String.format("error rate %.2f%% > %.2f%%", errorRate * 100, plan.maxErrorRate() * 100));
+        }
+        if (callCount == 0) {
+            violations.add("no calls completed");
+        }
+
+        return new OperationReport(name, plan.rate(), callCount, errors.sum(), skipped.sum(), p50, p99, p999,
+                millis(histogram.getMaxValue()), violations);
+    }
+
+    private static void check(List<String> violations, String label, double actualMillis, Duration limit) {
+        if (limit != null && actualMillis > limit.toNanos() / 1e6) {
+            violations.add(String.format("%s %.1fms > %dms", label, actualMillis, limit.toMillis()));
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,22 @@
+package com.davidfrivas.mouse_colony_app.loadtest;
+
+import java.util.List;
+
+// Latencies (ms, measured from each call's intended start) and SLO verdict for one operation
+record OperationReport(
+        String operation,
+        double rate,
+        long calls,
+        long errors,
+        // Calls with nothing to do (e.g. no pending request to approve), excluded from calls and latencies
+        long skipped,
+        double p50,
+        double p99,
+        double p999,
+        double max,
+        List<String> violations
+) {
+    boolean passed() {
+        return violations.isEmpty();
+    }
+}
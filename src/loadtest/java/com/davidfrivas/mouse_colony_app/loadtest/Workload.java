@@ -0,0 +1,107 @@
+package com.davidfrivas.mouse_colony_app.loadtest;
+
+import com.davidfrivas.mouse_colony_app.dtos.ColonyGenerationReport;
+import com.davidfrivas.mouse_colony_app.entities.LogEntry;
+import com.davidfrivas.mouse_colony_app.entities.MouseRequest;
+import com.davidfrivas.mouse_colony_app.services.LogEntryService;
+import com.davidfrivas.mouse_colony_app.services.MouseRequestService;
+import com.davidfrivas.mouse_colony_app.services.MouseService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+// The mixed workload, one entry per operation name used in LoadTestPlan.operations
+// Submitted requests feed the approvals; each available mouse is requested at most once
+// An operation returns false when it had nothing to do; those calls are counted as skipped, not timed
+final class Workload {
+    private static final String[] SEARCH_TERMS = {"cage", "weaning", "genotyping", "health check", "tail biopsy", "timed mating"};
+
+    private final ColonyGenerationReport colony;
+    private final MouseService mouseService;
+    private final LogEntryService logEntryService;
+    private final MouseRequestService requestService;
+    private final List<Queue<Long>> availableMiceByLab = new ArrayList<>();
+    private final Queue<Long> pendingRequests = new ConcurrentLinkedQueue<>();
+
+    Workload(ApplicationContext context, ColonyGenerationReport colony) {
+        this.colony = colony;
+        this.mouseService = context.getBean(MouseService.class);
+        this.logEntryService = context.getBean(LogEntryService.class);
+        this.requestService = context.getBean(MouseRequestService.class);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        for (int lab = 0; lab < colony.labs(); lab++) {
+            availableMiceByLab.add(new ConcurrentLinkedQueue<>(jdbc.queryForList(
+                    "SELECT mouse_id FROM mouse WHERE lab_id = ? AND availability = TRUE", Long.class, colony.labId(lab))));
+        }
+    }
+
+    Map<String, BooleanSupplier> operations() {
+        return Map.of(
+                "browse-available-mice", performed(this::browseAvailableMice),
+                "create-log-entry", performed(this::createLogEntry),
+                "submit-request", performed(this::submitRequest),
+                "approve-request", this::approveRequest,
+                "search-log-entries", performed(this::searchLogEntries)
+        );
+    }
+
+    private static BooleanSupplier performed(Runnable operation) {
+        return () -> {
+            operation.run();
+            return true;
+        };
+    }
+
+    private void browseAvailableMice() {
+        mouseService.getAvailableMouseSummariesByLab(colony.labId(randomLab()));
+    }
+
+    private void createLogEntry() {
+        int lab = randomLab();
+        LogEntry entry = LogEntry.builder().content("Load test " + randomTerm()).build();
+        logEntryService.createLogEntry(entry, colony.userId(lab, 0), colony.labId(lab));
+    }
+
+    private void submitRequest() {
+        int from = randomLab();
+        int to = (from + 1) % colony.labs();
+        Long mouseId = availableMiceByLab.get(from).poll();
+        if (mouseId == null) {
+            throw new IllegalStateException("Lab " + colony.labId(from) + " has no available mice left");
+        }
+        MouseRequest request = MouseRequest.builder().message("Load test request").build();
+        MouseRequest saved = requestService.createRequest(request, colony.userId(to, 0), mouseId, colony.labId(from), colony.labId(to));
+        pendingRequests.add(saved.getRequestId());
+    }
+
+    // Nothing to approve yet is a skip, so empty polls don't dilute the latencies; keep the approve rate below the submit rate
+    private boolean approveRequest() {
+        Long requestId = pendingRequests.poll();
+        if (requestId == null) {
+            return false;
+        }
+        requestService.approveRequest(requestId);
+        return true;
+    }
+
+    private void searchLogEntries() {
+        logEntryService.searchLogEntries(randomTerm(), PageRequest.of(0, 20));
+    }
+
+    private int randomLab() {
+        return ThreadLocalRandom.current().nextInt(colony.labs());
+    }
+
+    private static String randomTerm() {
+        return SEARCH_TERMS[ThreadLocalRandom.current().nextInt(SEARCH_TERMS.length)];
+    }
+}
@@ -2,9 +2,13 @@ package com.davidfrivas.mouse_colony_app;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan // Binds the records in the config package
+@EnableScheduling // Background jobs (log archival)
 public class MouseColonyAppApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,18 @@
+package com.davidfrivas.mouse_colony_app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Period;
+
+// Settings for the breeding-pair recommender (app.breeding-recommendation.*)
+@ConfigurationProperties(prefix = "app.breeding-recommendation")
+public record BreedingRecommendationProperties(
+        // Youngest age at which an available mouse counts as a candidate breeder
+        @DefaultValue("6w") Period minBreedingAge,
+        // Pairs suggested per lab; each mouse appears in at most one of them
+        @DefaultValue("10") int pairsPerLab,
+        // Least related males kept per female before pairing (bounds memory on large labs)
+        @DefaultValue("32") int malesPerFemale
+) {
+}
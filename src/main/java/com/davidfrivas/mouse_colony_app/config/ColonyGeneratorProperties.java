@@ -0,0 +1,45 @@
+package com.davidfrivas.mouse_colony_app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.LocalDate;
+
+// Shape of a synthetic colony written by ColonyGeneratorService (app.generator.*)
+// The same seed and settings always produce the same rows (ids are offset by what is already in the DB)
+@ConfigurationProperties(prefix = "app.generator")
+public record ColonyGeneratorProperties(
+        // Generate a colony on startup (ColonyGeneratorRunner), then keep running
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("42") long seed,
+        @DefaultValue("300") int labs,
+        @DefaultValue("5") int usersPerLab,
+        @DefaultValue("10") int protocolsPerLab,
+        // Generation 0 of each lab, no parents
+        @DefaultValue("200") int foundersPerLab,
+        // Bred generations after the founders
+        @DefaultValue("4") int generations,
+        // Litters per lab and generation, parents come from the previous generation
+        @DefaultValue("100") int breedingPairsPerLab,
+        @DefaultValue("4") int minLitterSize,
+        @DefaultValue("10") int maxLitterSize,
+        // Share of mice flagged as available for transfer
+        @DefaultValue("0.3") double availableFraction,
+        @DefaultValue("2000") int logEntriesPerLab,
+        // Each log entry links 0..maxMicePerLogEntry of its lab's mice
+        @DefaultValue("3") int maxMicePerLogEntry,
+        @DefaultValue("200") int requestsPerLab,
+        // Request history mix, the remainder is pending
+        @DefaultValue("0.5") double approvedFraction,
+        @DefaultValue("0.15") double rejectedFraction,
+        @DefaultValue("0.1") double cancelledFraction,
+        // Birth dates and log/request timestamps run up to this day
+        @DefaultValue("2025-01-01") LocalDate referenceDate,
+        // Rows per JDBC batch (sent as multi-row INSERTs thanks to rewriteBatchedStatements)
+        @DefaultValue("5000") int batchSize
+) {
+    // Average mice per lab, for sizing runs up front
+    public long expectedMicePerLab() {
+        return foundersPerLab + (long) generations * breedingPairsPerLab * (minLitterSize + maxLitterSize) / 2;
+    }
+}
@@ -0,0 +1,18 @@
+package com.davidfrivas.mouse_colony_app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// Settings for the lab landing page (app.lab-dashboard.*)
+@ConfigurationProperties(prefix = "app.lab-dashboard")
+public record LabDashboardProperties(
+        // Sections not loaded within this time come back empty and marked TIMED_OUT
+        @DefaultValue("500ms") Duration sectionTimeout,
+        // Rows per section (newest/first N)
+        @DefaultValue("10") int itemsPerSection,
+        // Sections querying at once across all dashboards (each holds a pooled connection), keep below the pool size
+        @DefaultValue("6") int maxConcurrentSections
+) {
+}
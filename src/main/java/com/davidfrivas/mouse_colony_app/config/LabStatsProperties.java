@@ -0,0 +1,14 @@
+package com.davidfrivas.mouse_colony_app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// Settings for the lab_stats drift check (app.lab-stats.*)
+@ConfigurationProperties(prefix = "app.lab-stats")
+public record LabStatsProperties(
+        // Run the scheduled reconciliation job
+        @DefaultValue("true") boolean reconcileEnabled,
+        // When it runs (read by @Scheduled in LabStatsService)
+        @DefaultValue("0 0 3 * * *") String reconcileCron
+) {
+}
@@ -0,0 +1,20 @@
+package com.davidfrivas.mouse_colony_app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// Settings for moving old log entries to the archive tables (app.log-archive.*)
+@ConfigurationProperties(prefix = "app.log-archive")
+public record LogArchiveProperties(
+        // Run the scheduled archival job
+        @DefaultValue("true") boolean enabled,
+        // Entries older than this are archived
+        @DefaultValue("365d") Duration retention,
+        // Entries moved per transaction
+        @DefaultValue("5000") int batchSize,
+        // When the scheduled job runs (read by @Scheduled in LogArchiveService)
+        @DefaultValue("0 30 2 * * *") String cron
+) {
+}
@@ -0,0 +1,25 @@
+package com.davidfrivas.mouse_colony_app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// Settings for asynchronous log entry ingestion (app.log-ingestion.*)
+@ConfigurationProperties(prefix = "app.log-ingestion")
+public record LogIngestionProperties(
+        // Entries buffered before submitters get backpressure
+        @DefaultValue("10000") int queueCapacity,
+        // Max entries written per flush
+        @DefaultValue("500") int batchSize,
+        // How long a submit waits for queue space before it's rejected
+        @DefaultValue("100ms") Duration offerTimeout,
+        @DefaultValue("per-batch") Durability durability
+) {
+    public enum Durability {
+        // One transaction (one log fsync) per flushed batch
+        PER_BATCH,
+        // One transaction per entry: slower, but a failed entry never holds back the rest
+        PER_ENTRY
+    }
+}
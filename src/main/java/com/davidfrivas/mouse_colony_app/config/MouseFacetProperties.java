@@ -0,0 +1,21 @@
+package com.davidfrivas.mouse_colony_app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+// Settings for the in-memory mouse facet index (app.mouse-facets.*)
+@ConfigurationProperties(prefix = "app.mouse-facets")
+public record MouseFacetProperties(
+        // Load the index once the application is ready
+        @DefaultValue("true") boolean rebuildOnStartup,
+        // Id ranges loaded concurrently during a rebuild (each holds one connection)
+        @DefaultValue("4") int rebuildParallelism,
+        @DefaultValue("10000") int rebuildBatchSize,
+        // Upper bounds of the AGE_BAND values, youngest first, as periods ("3w", "6m", "1y")
+        @DefaultValue({"3w", "8w", "26w", "52w"}) List<String> ageBands,
+        @DefaultValue("50") int defaultLimit,
+        @DefaultValue("500") int maxLimit
+) {
+}
@@ -0,0 +1,18 @@
+package com.davidfrivas.mouse_colony_app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// Settings for the per-lab request event stream (app.request-events.*)
+@ConfigurationProperties(prefix = "app.request-events")
+public record RequestEventProperties(
+        // Connections are closed after this long, clients reconnect with Last-Event-ID
+        @DefaultValue("30m") Duration emitterTimeout,
+        // Comment frames sent to keep idle connections (and proxies) alive
+        @DefaultValue("15s") Duration heartbeatInterval,
+        // Recent events kept per lab for replay on reconnect
+        @DefaultValue("500") int historySize
+) {
+}
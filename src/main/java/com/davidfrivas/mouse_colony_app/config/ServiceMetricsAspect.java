@@ -0,0 +1,42 @@
+package com.davidfrivas.mouse_colony_app.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// Times every public method of the service layer as "colony.service.calls"
+// Tagged by service, method and outcome, so the timer counts double as call/error counters
+@Aspect
+@Component
+@AllArgsConstructor
+public class ServiceMetricsAspect {
+    private static final String METER_NAME = "colony.service.calls";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.davidfrivas.mouse_colony_app.services..*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            outcome = "error";
+            exception = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            sample.stop(Timer.builder(METER_NAME)
+                    .description("Service method calls")
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
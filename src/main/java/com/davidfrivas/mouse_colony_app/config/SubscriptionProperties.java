@@ -0,0 +1,14 @@
+package com.davidfrivas.mouse_colony_app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// Settings for want-list subscriptions (app.subscriptions.*)
+@ConfigurationProperties(prefix = "app.subscriptions")
+public record SubscriptionProperties(
+        // Active subscriptions a single user may hold
+        @DefaultValue("100") int maxPerUser,
+        // Largest match inbox page a caller can ask for
+        @DefaultValue("200") int maxPageSize
+) {
+}
@@ -0,0 +1,27 @@
+package com.davidfrivas.mouse_colony_app.controllers;
+
+import com.davidfrivas.mouse_colony_app.dtos.BreedingPairRecommendation;
+import com.davidfrivas.mouse_colony_app.services.BreedingRecommendationService;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/breeding-recommendations")
+public class BreedingRecommendationController {
+    private final BreedingRecommendationService recommendationService;
+
+    // Least related breeding pairs of a strain, per lab (or for one lab with ?labId=)
+    @GetMapping
+    public List<BreedingPairRecommendation> recommendPairs(@RequestParam String strain,
+                                                           @RequestParam(required = false) Long labId) {
+        return labId == null
+                ? recommendationService.recommendPairs(strain)
+                : recommendationService.recommendPairs(strain, labId);
+    }
+}
@@ -0,0 +1,22 @@
+package com.davidfrivas.mouse_colony_app.controllers;
+
+import com.davidfrivas.mouse_colony_app.dtos.LabDashboard;
+import com.davidfrivas.mouse_colony_app.services.LabDashboardService;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/labs/{labId}/dashboard")
+public class LabDashboardController {
+    private final LabDashboardService dashboardService;
+
+    // Lab landing page; sections that were too slow come back with state TIMED_OUT and no value
+    @GetMapping
+    public LabDashboard getDashboard(@PathVariable Long labId) {
+        return dashboardService.getDashboard(labId);
+    }
+}
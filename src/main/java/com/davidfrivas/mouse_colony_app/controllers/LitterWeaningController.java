@@ -0,0 +1,28 @@
+package com.davidfrivas.mouse_colony_app.controllers;
+
+import com.davidfrivas.mouse_colony_app.dtos.WeaningReport;
+import com.davidfrivas.mouse_colony_app.dtos.WeaningRequest;
+import com.davidfrivas.mouse_colony_app.services.LitterWeaningService;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/litters")
+public class LitterWeaningController {
+    private final LitterWeaningService weaningService;
+
+    // Create one litter's pups
+    @PostMapping("/{litterId}/weaning")
+    public WeaningReport weanLitter(@PathVariable Long litterId, @RequestBody WeaningRequest request) {
+        return weaningService.weanLitter(new WeaningRequest(litterId, request.userId(), request.protocolId(), request.pups()));
+    }
+
+    // Create the pups of many litters in one transaction (cage-change day)
+    @PostMapping("/weaning")
+    public WeaningReport weanLitters(@RequestBody List<WeaningRequest> requests) {
+        return weaningService.weanLitters(requests);
+    }
+}
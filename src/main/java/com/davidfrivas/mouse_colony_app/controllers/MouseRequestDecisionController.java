@@ -0,0 +1,22 @@
+package com.davidfrivas.mouse_colony_app.controllers;
+
+import com.davidfrivas.mouse_colony_app.dtos.BulkDecisionReport;
+import com.davidfrivas.mouse_colony_app.dtos.RequestDecision;
+import com.davidfrivas.mouse_colony_app.services.MouseRequestBulkService;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/mouse-requests/decisions")
+public class MouseRequestDecisionController {
+    private final MouseRequestBulkService bulkService;
+
+    // Approve/reject many requests in one transaction, e.g. a cohort shared with a collaborator
+    @PostMapping
+    public BulkDecisionReport decideRequests(@RequestBody List<RequestDecision> decisions) {
+        return bulkService.decide(decisions);
+    }
+}
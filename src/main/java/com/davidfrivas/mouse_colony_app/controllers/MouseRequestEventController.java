@@ -0,0 +1,27 @@
+package com.davidfrivas.mouse_colony_app.controllers;
+
+import com.davidfrivas.mouse_colony_app.services.LabService;
+import com.davidfrivas.mouse_colony_app.services.MouseRequestEventBroadcaster;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/labs/{labId}/request-events")
+public class MouseRequestEventController {
+    private final MouseRequestEventBroadcaster broadcaster;
+    private final LabService labService;
+
+    // Server-Sent Events stream of request lifecycle events involving a lab
+    // Browsers send Last-Event-ID automatically when they reconnect
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRequestEvents(@PathVariable Long labId,
+                                          @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        if (!labService.existsById(labId)) {
+            throw new IllegalArgumentException("Lab not found with id: " + labId);
+        }
+        return broadcaster.subscribe(labId, lastEventId);
+    }
+}
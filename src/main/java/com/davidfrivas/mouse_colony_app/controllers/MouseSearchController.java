@@ -0,0 +1,23 @@
+package com.davidfrivas.mouse_colony_app.controllers;
+
+import com.davidfrivas.mouse_colony_app.dtos.MouseFacetQuery;
+import com.davidfrivas.mouse_colony_app.dtos.MouseFacetResult;
+import com.davidfrivas.mouse_colony_app.services.MouseFacetIndex;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/mice/search")
+public class MouseSearchController {
+    private final MouseFacetIndex facetIndex;
+
+    // Faceted search across every lab, answered from the in-memory index with per-value counts
+    @PostMapping
+    public MouseFacetResult search(@RequestBody MouseFacetQuery query) {
+        return facetIndex.search(query);
+    }
+}
@@ -0,0 +1,52 @@
+package com.davidfrivas.mouse_colony_app.controllers;
+
+import com.davidfrivas.mouse_colony_app.dtos.MouseSubscriptionSummary;
+import com.davidfrivas.mouse_colony_app.dtos.SubscriptionMatchSummary;
+import com.davidfrivas.mouse_colony_app.entities.MouseSubscription;
+import com.davidfrivas.mouse_colony_app.services.MouseSubscriptionService;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/users/{userId}")
+public class MouseSubscriptionController {
+    private final MouseSubscriptionService subscriptionService;
+
+    // Register a want-list query (strain/genotype/sex/age)
+    @PostMapping("/subscriptions")
+    public MouseSubscriptionSummary subscribe(@PathVariable Long userId, @RequestBody MouseSubscriptionSummary subscription) {
+        return MouseSubscriptionSummary.from(subscriptionService.subscribe(userId, subscription.toSubscription()));
+    }
+
+    @GetMapping("/subscriptions")
+    public List<MouseSubscriptionSummary> getSubscriptions(@PathVariable Long userId) {
+        return subscriptionService.getSubscriptions(userId).stream()
+                .map(MouseSubscriptionSummary::from)
+                .toList();
+    }
+
+    @DeleteMapping("/subscriptions/{subscriptionId}")
+    public MouseSubscriptionSummary cancel(@PathVariable Long userId, @PathVariable Long subscriptionId) {
+        MouseSubscription subscription = subscriptionService.findById(subscriptionId);
+        if (!subscription.getUser().getUserId().equals(userId)) {
+            throw new IllegalArgumentException("Subscription " + subscriptionId + " does not belong to user " + userId);
+        }
+        return MouseSubscriptionSummary.from(subscriptionService.cancel(subscriptionId));
+    }
+
+    // Match inbox, oldest first; pass the last matchId received as afterMatchId to get newer ones
+    @GetMapping("/subscription-matches")
+    public List<SubscriptionMatchSummary> getMatches(@PathVariable Long userId,
+                                                     @RequestParam(required = false) Long afterMatchId,
+                                                     @RequestParam(defaultValue = "50") int limit) {
+        return subscriptionService.getMatches(userId, afterMatchId, limit);
+    }
+
+    @PostMapping("/subscription-matches/seen")
+    public int markSeen(@PathVariable Long userId, @RequestBody List<Long> matchIds) {
+        return subscriptionService.markSeen(userId, matchIds);
+    }
+}
@@ -0,0 +1,15 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+// Suggested breeding pair within a lab
+// kinship is the pair's coefficient of kinship, i.e. the expected inbreeding coefficient of their pups
+public record BreedingPairRecommendation(
+        Long labId,
+        Long femaleId,
+        String femaleName,
+        double femaleInbreeding,
+        Long maleId,
+        String maleName,
+        double maleInbreeding,
+        double kinship
+) {
+}
@@ -0,0 +1,29 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import com.davidfrivas.mouse_colony_app.repositories.BreedingPerformanceRow;
+
+// Breeding record of a female (fatherId null) or of a breeding pair
+// meanInterLitterDays is the mean gap between consecutive litters, null with fewer than two litters
+public record BreedingPerformance(
+        Long motherId,
+        String motherName,
+        Long fatherId,
+        String fatherName,
+        long litterCount,
+        long totalPups,
+        double meanPupsPerLitter,
+        Double meanInterLitterDays
+) {
+    public static BreedingPerformance from(BreedingPerformanceRow row) {
+        return new BreedingPerformance(
+                row.getMotherId(),
+                row.getMotherName(),
+                row.getFatherId(),
+                row.getFatherName(),
+                row.getLitterCount(),
+                row.getTotalPups(),
+                row.getMeanPupsPerLitter(),
+                row.getMeanInterLitterDays()
+        );
+    }
+}
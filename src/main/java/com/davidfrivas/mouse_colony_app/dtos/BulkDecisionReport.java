@@ -0,0 +1,25 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import com.davidfrivas.mouse_colony_app.entities.MouseRequest;
+
+import java.util.List;
+
+// Per-request outcome of a bulk approve/reject, in input order
+public record BulkDecisionReport(List<Outcome> outcomes, int applied, int failed) {
+
+    // status is the request's new status when applied, message explains a failure
+    public record Outcome(Long requestId, boolean applied, MouseRequest.Status status, String message) {
+        public static Outcome applied(Long requestId, MouseRequest.Status status) {
+            return new Outcome(requestId, true, status, null);
+        }
+
+        public static Outcome failed(Long requestId, String message) {
+            return new Outcome(requestId, false, null, message);
+        }
+    }
+
+    public static BulkDecisionReport of(List<Outcome> outcomes) {
+        int applied = (int) outcomes.stream().filter(Outcome::applied).count();
+        return new BulkDecisionReport(outcomes, applied, outcomes.size() - applied);
+    }
+}
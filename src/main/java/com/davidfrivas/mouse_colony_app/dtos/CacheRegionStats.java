@@ -0,0 +1,5 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+// Hit/miss counters for one second-level cache region
+public record CacheRegionStats(String region, long hits, long misses, long puts, double hitRatio) {
+}
@@ -0,0 +1,37 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import java.time.Duration;
+
+// Rows written by one ColonyGeneratorService run
+// Ids are contiguous per table: lab i (0-based) is firstLabId + i and owns
+// users firstUserId + i * usersPerLab ... and protocols firstProtocolId + i * protocolsPerLab ...
+public record ColonyGenerationReport(
+        long firstLabId,
+        int labs,
+        long firstUserId,
+        int usersPerLab,
+        long firstProtocolId,
+        int protocolsPerLab,
+        long mice,
+        long litters,
+        long logEntries,
+        long mouseLogLinks,
+        long requests,
+        Duration elapsed
+) {
+    public long totalRows() {
+        return labs + (long) labs * (usersPerLab + protocolsPerLab) + mice + litters + logEntries + mouseLogLinks + requests;
+    }
+
+    public long labId(int index) {
+        return firstLabId + index;
+    }
+
+    public long userId(int labIndex, int userIndex) {
+        return firstUserId + (long) labIndex * usersPerLab + userIndex;
+    }
+
+    public long protocolId(int labIndex, int protocolIndex) {
+        return firstProtocolId + (long) labIndex * protocolsPerLab + protocolIndex;
+    }
+}
@@ -0,0 +1,11 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import java.util.List;
+
+// Outcome of a bulk import: rows read, rows inserted, and the rows that were skipped
+public record ImportReport(long totalRows, long importedRows, List<RowError> errors) {
+
+    // A rejected row, identified by its 1-based line number in the input
+    public record RowError(long lineNumber, String message) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import java.util.List;
+
+// Lab landing page; each section is loaded independently and may be missing if it was too slow or failed
+public record LabDashboard(
+        Long labId,
+        Section<List<MouseSummary>> availableMice,
+        Section<List<ProtocolSummary>> activeProtocols,
+        Section<List<LitterSummary>> recentLitters,
+        Section<MouseRequestPage> pendingInbound,
+        Section<MouseRequestPage> pendingOutbound,
+        Section<List<LogEntrySummary>> recentLogEntries
+) {
+    public enum State {
+        OK, TIMED_OUT, FAILED
+    }
+
+    // value is null unless state is OK
+    public record Section<T>(State state, T value, long elapsedMillis) {
+        public static <T> Section<T> ok(T value, long elapsedMillis) {
+            return new Section<>(State.OK, value, elapsedMillis);
+        }
+
+        public static <T> Section<T> missing(State state, long elapsedMillis) {
+            return new Section<>(state, null, elapsedMillis);
+        }
+    }
+
+    // True when every section loaded
+    public boolean complete() {
+        return List.of(availableMice, activeProtocols, recentLitters, pendingInbound, pendingOutbound, recentLogEntries)
+                .stream()
+                .allMatch(section -> section.state() == State.OK);
+    }
+}
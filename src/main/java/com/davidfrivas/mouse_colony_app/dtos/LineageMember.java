@@ -0,0 +1,7 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import com.davidfrivas.mouse_colony_app.entities.Mouse;
+
+// A relative of a mouse and how many generations away it is (1 = parent/child)
+public record LineageMember(Mouse mouse, int generation) {
+}
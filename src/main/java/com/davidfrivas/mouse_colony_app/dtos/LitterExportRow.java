@@ -0,0 +1,19 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Flat litter row for colony export
+public record LitterExportRow(
+        Long litterId,
+        String name,
+        LocalDate dateOfBirth,
+        Long labId,
+        String labName,
+        Long protocolId,
+        String protocolNumber,
+        Long motherId,
+        Long fatherId,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,36 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import com.davidfrivas.mouse_colony_app.entities.Litter;
+
+import java.time.LocalDate;
+
+// Read model for litter list views (load the litter with the "Litter.summary" entity graph)
+public record LitterSummary(
+        Long litterId,
+        String name,
+        LocalDate dateOfBirth,
+        Long labId,
+        String labName,
+        Long protocolId,
+        String protocolNumber,
+        Long motherId,
+        String motherName,
+        Long fatherId,
+        String fatherName
+) {
+    public static LitterSummary from(Litter litter) {
+        return new LitterSummary(
+                litter.getLitterId(),
+                litter.getName(),
+                litter.getDateOfBirth(),
+                litter.getLab().getLabId(),
+                litter.getLab().getName(),
+                litter.getProtocol().getProtocolId(),
+                litter.getProtocol().getProtocolNumber(),
+                litter.getMother().getMouseId(),
+                litter.getMother().getName(),
+                litter.getFather().getMouseId(),
+                litter.getFather().getName()
+        );
+    }
+}
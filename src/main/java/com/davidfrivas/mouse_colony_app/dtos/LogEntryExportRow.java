@@ -0,0 +1,15 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import java.time.LocalDateTime;
+
+// Flat log entry row for colony export (user is null if the author was deleted)
+public record LogEntryExportRow(
+        Long logId,
+        Long labId,
+        String labName,
+        Long userId,
+        String username,
+        String content,
+        LocalDateTime createdAt
+) {
+}
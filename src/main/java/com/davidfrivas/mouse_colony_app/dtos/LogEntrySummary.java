@@ -0,0 +1,13 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import java.time.LocalDateTime;
+
+// Read model for log entry list views (selected directly by LogEntryRepository, no entity loading)
+public record LogEntrySummary(
+        Long logId,
+        String content,
+        LocalDateTime createdAt,
+        Long userId,
+        String userName
+) {
+}
@@ -0,0 +1,9 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Acknowledgement for a queued log entry (the real log_id is assigned when the batch is written)
+// receiptId is stored with the entry, so LogIngestionService.getStatus resolves it to the log_id
+public record LogIngestionReceipt(UUID receiptId, LocalDateTime acceptedAt) {
+}
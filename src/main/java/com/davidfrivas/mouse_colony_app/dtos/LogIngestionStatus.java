@@ -0,0 +1,11 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import java.util.UUID;
+
+// Where a queued log entry is; logId is only set once the entry is WRITTEN
+// UNKNOWN covers receipts that failed, were dropped, were archived, or were never issued
+public record LogIngestionStatus(UUID receiptId, State state, Long logId) {
+    public enum State {
+        PENDING, WRITTEN, UNKNOWN
+    }
+}
@@ -0,0 +1,28 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import com.davidfrivas.mouse_colony_app.entities.Mouse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Flat mouse row for colony export, with lab/protocol/user names joined in SQL
+public record MouseExportRow(
+        Long mouseId,
+        String name,
+        Mouse.Sex sex,
+        String genotype,
+        String strain,
+        LocalDate dateOfBirth,
+        Boolean availability,
+        Long labId,
+        String labName,
+        Long protocolId,
+        String protocolNumber,
+        Long userId,
+        String username,
+        Long motherId,
+        Long fatherId,
+        Long litterId,
+        LocalDateTime createdAt
+) {
+}
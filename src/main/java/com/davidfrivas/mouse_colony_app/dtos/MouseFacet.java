@@ -0,0 +1,7 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+// Attributes mice can be filtered and counted by in the facet index
+// Values are strings: lab ids, "true"/"false", "M"/"F"/"UNKNOWN", and age band labels such as "3w-8w"
+public enum MouseFacet {
+    STRAIN, GENOTYPE, SEX, AVAILABILITY, LAB, AGE_BAND
+}
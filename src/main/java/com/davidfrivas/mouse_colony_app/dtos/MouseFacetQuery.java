@@ -0,0 +1,11 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import java.util.List;
+import java.util.Map;
+
+// Facet filter in OR-of-ANDs form: a mouse matches if it matches any clause; within a clause it must
+// match every listed facet, and a facet matches if the mouse has any of its values
+// e.g. anyOf = [{STRAIN: [C57BL/6], SEX: [F]}, {GENOTYPE: [Cre+, Cre+/-]}]; no clauses matches every mouse
+// limit is the number of mice returned (the counts always cover every match)
+public record MouseFacetQuery(List<Map<MouseFacet, List<String>>> anyOf, Integer limit) {
+}
@@ -0,0 +1,8 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import java.util.List;
+import java.util.Map;
+
+// Matching mice (first page by id), the total, and the number of matches per facet value
+public record MouseFacetResult(long total, List<MouseSummary> mice, Map<MouseFacet, Map<String, Long>> counts) {
+}
@@ -0,0 +1,17 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import com.davidfrivas.mouse_colony_app.entities.Mouse;
+
+import java.time.LocalDate;
+
+// The indexed attributes of one mouse (loaded to build and refresh the facet index)
+public record MouseFacetRow(
+        Long mouseId,
+        String strain,
+        String genotype,
+        Mouse.Sex sex,
+        Boolean availability,
+        Long labId,
+        LocalDate dateOfBirth
+) {
+}
@@ -0,0 +1,20 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import java.time.LocalDate;
+
+// One mouse in a bulk import file (CSV column names / NDJSON field names match these components)
+public record MouseImportRow(
+        String name,
+        String sex,
+        String genotype,
+        String strain,
+        LocalDate dateOfBirth,
+        Boolean availability,
+        String notes,
+        Long labId,
+        Long protocolId,
+        Long userId,
+        Long motherId,
+        Long fatherId
+) {
+}
@@ -0,0 +1,7 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import java.util.List;
+
+// One page of an inbox/outbox listing, next is null on the last page
+public record MouseRequestPage(List<MouseRequestSummary> requests, RequestCursor next) {
+}
@@ -0,0 +1,38 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import com.davidfrivas.mouse_colony_app.entities.MouseRequest;
+
+import java.time.LocalDateTime;
+
+// Read model for request list views (load the request with the "MouseRequest.summary" entity graph)
+public record MouseRequestSummary(
+        Long requestId,
+        MouseRequest.Status status,
+        String message,
+        LocalDateTime createdAt,
+        Long requestorId,
+        String requestorName,
+        Long mouseId,
+        String mouseName,
+        Long fromLabId,
+        String fromLabName,
+        Long toLabId,
+        String toLabName
+) {
+    public static MouseRequestSummary from(MouseRequest request) {
+        return new MouseRequestSummary(
+                request.getRequestId(),
+                request.getStatus(),
+                request.getMessage(),
+                request.getCreatedAt(),
+                request.getRequestor().getUserId(),
+                request.getRequestor().getName(),
+                request.getMouse().getMouseId(),
+                request.getMouse().getName(),
+                request.getFromLab().getLabId(),
+                request.getFromLab().getName(),
+                request.getToLab().getLabId(),
+                request.getToLab().getName()
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import com.davidfrivas.mouse_colony_app.entities.Mouse;
+import com.davidfrivas.mouse_colony_app.entities.MouseSubscription;
+
+import java.time.LocalDateTime;
+
+// Want-list subscription as shown to its owner (also the request body for registering one; ids are ignored)
+public record MouseSubscriptionSummary(
+        Long subscriptionId,
+        Long userId,
+        Long labId,
+        String strain,
+        String genotype,
+        Mouse.Sex sex,
+        Integer minAgeDays,
+        Integer maxAgeDays,
+        Boolean active,
+        LocalDateTime createdAt
+) {
+    public static MouseSubscriptionSummary from(MouseSubscription subscription) {
+        return new MouseSubscriptionSummary(
+                subscription.getSubscriptionId(),
+                // Reading a proxy's id doesn't initialize it
+                subscription.getUser().getUserId(),
+                subscription.getLab().getLabId(),
+                subscription.getStrain(),
+                subscription.getGenotype(),
+                subscription.getSex(),
+                subscription.getMinAgeDays(),
+                subscription.getMaxAgeDays(),
+                subscription.getActive(),
+                subscription.getCreatedAt()
+        );
+    }
+
+    public MouseSubscription toSubscription() {
+        return MouseSubscription.builder()
+                .strain(strain)
+                .genotype(genotype)
+                .sex(sex)
+                .minAgeDays(minAgeDays)
+                .maxAgeDays(maxAgeDays)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import com.davidfrivas.mouse_colony_app.entities.Mouse;
+
+import java.time.LocalDate;
+
+// Read model for mouse list views (load the mouse with the "Mouse.summary" entity graph)
+public record MouseSummary(
+        Long mouseId,
+        String name,
+        Mouse.Sex sex,
+        String genotype,
+        String strain,
+        LocalDate dateOfBirth,
+        Boolean availability,
+        Long labId,
+        String labName,
+        Long protocolId,
+        String protocolNumber,
+        Long userId,
+        String username,
+        Long motherId,
+        Long fatherId
+) {
+    public static MouseSummary from(Mouse mouse) {
+        return new MouseSummary(
+                mouse.getMouseId(),
+                mouse.getName(),
+                mouse.getSex(),
+                mouse.getGenotype(),
+                mouse.getStrain(),
+                mouse.getDateOfBirth(),
+                mouse.getAvailability(),
+                mouse.getLab().getLabId(),
+                mouse.getLab().getName(),
+                mouse.getProtocol().getProtocolId(),
+                mouse.getProtocol().getProtocolNumber(),
+                mouse.getUser().getUserId(),
+                mouse.getUser().getUsername(),
+                // Reading a proxy's id doesn't initialize it
+                mouse.getMother() == null ? null : mouse.getMother().getMouseId(),
+                mouse.getFather() == null ? null : mouse.getFather().getMouseId()
+        );
+    }
+}
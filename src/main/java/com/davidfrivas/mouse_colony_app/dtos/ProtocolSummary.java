@@ -0,0 +1,26 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import com.davidfrivas.mouse_colony_app.entities.ResearchProtocol;
+
+import java.time.LocalDate;
+
+// Read model for protocol list views
+public record ProtocolSummary(
+        Long protocolId,
+        String protocolNumber,
+        String title,
+        String status,
+        LocalDate approvalDate,
+        LocalDate expirationDate
+) {
+    public static ProtocolSummary from(ResearchProtocol protocol) {
+        return new ProtocolSummary(
+                protocol.getProtocolId(),
+                protocol.getProtocolNumber(),
+                protocol.getTitle(),
+                protocol.getStatus(),
+                protocol.getApprovalDate(),
+                protocol.getExpirationDate()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import com.davidfrivas.mouse_colony_app.entities.MouseRequest;
+
+import java.time.LocalDateTime;
+
+// Keyset position in an inbox/outbox listing: the last request of the previous page
+public record RequestCursor(LocalDateTime createdAt, Long requestId) {
+    public static RequestCursor after(MouseRequest request) {
+        return new RequestCursor(request.getCreatedAt(), request.getRequestId());
+    }
+}
@@ -0,0 +1,8 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+// One approve/reject decision in a bulk request
+public record RequestDecision(Long requestId, Decision decision) {
+    public enum Decision {
+        APPROVE, REJECT
+    }
+}
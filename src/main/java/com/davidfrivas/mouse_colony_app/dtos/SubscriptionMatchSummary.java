@@ -0,0 +1,24 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import com.davidfrivas.mouse_colony_app.entities.Mouse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Want-list inbox row: the match plus the mouse's current state
+public record SubscriptionMatchSummary(
+        Long matchId,
+        Long subscriptionId,
+        Long mouseId,
+        String mouseName,
+        String strain,
+        String genotype,
+        Mouse.Sex sex,
+        LocalDate dateOfBirth,
+        Boolean availability,
+        Long labId,
+        String labName,
+        LocalDateTime matchedAt,
+        Boolean seen
+) {
+}
@@ -0,0 +1,14 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import java.util.List;
+
+// Mice created by a weaning call, per litter in input order (mouse ids in pup order)
+public record WeaningReport(List<WeanedLitter> litters, int weanedPups) {
+
+    public record WeanedLitter(Long litterId, List<Long> mouseIds) {
+    }
+
+    public static WeaningReport of(List<WeanedLitter> litters) {
+        return new WeaningReport(litters, litters.stream().mapToInt(l -> l.mouseIds().size()).sum());
+    }
+}
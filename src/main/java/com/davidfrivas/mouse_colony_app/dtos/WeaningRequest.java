@@ -0,0 +1,14 @@
+package com.davidfrivas.mouse_colony_app.dtos;
+
+import com.davidfrivas.mouse_colony_app.entities.Mouse;
+
+import java.util.List;
+
+// Pups to create from one litter; lab, date of birth and parents come from the litter
+// protocolId is optional and defaults to the litter's protocol
+public record WeaningRequest(Long litterId, Long userId, Long protocolId, List<Pup> pups) {
+
+    // strain defaults to the mother's strain, availability to true
+    public record Pup(String name, Mouse.Sex sex, String genotype, String strain, Boolean availability, String notes) {
+    }
+}
@@ -2,6 +2,8 @@ package com.davidfrivas.mouse_colony_app.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -14,6 +16,9 @@ import java.util.Set;
 @Setter
 @Entity
 @Table(name = "lab")
+// Reference data, read on nearly every write path and rarely changed
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Lab {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
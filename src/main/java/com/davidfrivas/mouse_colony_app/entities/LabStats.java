@@ -0,0 +1,74 @@
+package com.davidfrivas.mouse_colony_app.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// Read-only per-lab counters, maintained by the lab_stats triggers (V12) and repaired by LabStatsService
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Entity
+@Immutable
+@Table(name = "lab_stats")
+public class LabStats {
+    @Id
+    @Column(name = "lab_id")
+    private Long labId;
+
+    @Column(name = "user_count", nullable = false)
+    private int userCount;
+
+    @Column(name = "protocol_count", nullable = false)
+    private int protocolCount;
+
+    @Column(name = "mouse_count", nullable = false)
+    private int mouseCount;
+
+    @Column(name = "available_mouse_count", nullable = false)
+    private int availableMouseCount;
+
+    @Column(name = "litter_count", nullable = false)
+    private int litterCount;
+
+    // Pending requests for this lab's mice
+    @Column(name = "pending_inbound_count", nullable = false)
+    private int pendingInboundCount;
+
+    // Pending requests made by this lab
+    @Column(name = "pending_outbound_count", nullable = false)
+    private int pendingOutboundCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // True when the counters equal freshly counted values
+    public boolean matches(LabCounts counts) {
+        return userCount == counts.getUserCount()
+                && protocolCount == counts.getProtocolCount()
+                && mouseCount == counts.getMouseCount()
+                && availableMouseCount == counts.getAvailableMouseCount()
+                && litterCount == counts.getLitterCount()
+                && pendingInboundCount == counts.getPendingInboundCount()
+                && pendingOutboundCount == counts.getPendingOutboundCount();
+    }
+
+    // Counted from the base tables (see LabStatsRepository.countActual)
+    public interface LabCounts {
+        int getUserCount();
+
+        int getProtocolCount();
+
+        int getMouseCount();
+
+        int getAvailableMouseCount();
+
+        int getLitterCount();
+
+        int getPendingInboundCount();
+
+        int getPendingOutboundCount();
+    }
+}
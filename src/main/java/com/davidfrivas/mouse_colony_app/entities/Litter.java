@@ -15,6 +15,13 @@ import java.util.Set;
 @Setter
 @Entity
 @Table(name = "litter")
+// Fetch plan for litter list views
+@NamedEntityGraph(name = "Litter.summary", attributeNodes = {
+        @NamedAttributeNode("lab"),
+        @NamedAttributeNode("protocol"),
+        @NamedAttributeNode("mother"),
+        @NamedAttributeNode("father")
+})
 public class Litter {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,44 @@
+package com.davidfrivas.mouse_colony_app.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+// Read-only view of an archived log entry (rows are written by LogArchiveService with INSERT ... SELECT)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Entity
+@Immutable
+@Table(name = "log_entry_archive")
+public class LogEntryArchive {
+    @Id
+    @Column(name = "log_id")
+    private Long logId;
+
+    // Plain ids rather than associations: the user/lab may no longer exist
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "lab_id", nullable = false)
+    private Long labId;
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Mice mentioned by the entry when it was archived
+    @ElementCollection
+    @CollectionTable(name = "mouse_log_entry_archive", joinColumns = @JoinColumn(name = "log_id"))
+    @Column(name = "mouse_id")
+    private Set<Long> mouseIds = new HashSet<>();
+}
@@ -13,9 +13,32 @@ import java.time.LocalDateTime;
 @Setter
 @Entity
 @Table(name = "mouse")
+// Fetch plans for list views, so rendering a page doesn't trigger one lazy load per row
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = "Mouse.summary", attributeNodes = {
+                @NamedAttributeNode("lab"),
+                @NamedAttributeNode("protocol"),
+                @NamedAttributeNode("user")
+        }),
+        @NamedEntityGraph(name = "Mouse.pedigree", attributeNodes = {
+                @NamedAttributeNode("lab"),
+                @NamedAttributeNode("mother"),
+                @NamedAttributeNode("father"),
+                @NamedAttributeNode("litter")
+        })
+})
 public class Mouse {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled ids from the id_sequence table let Hibernate batch mouse inserts (bulk import/weaning)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "mouse_id_generator")
+    @TableGenerator(
+            name = "mouse_id_generator",
+            table = "id_sequence",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "mouse",
+            allocationSize = 50
+    )
     @Column(name = "mouse_id")
     private Long mouseId;
 
@@ -66,6 +89,11 @@ public class Mouse {
     @JoinColumn(name = "father_id")
     private Mouse father;
 
+    // Optimistic lock, bumped on every update (including the conditional transfer UPDATE)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -12,6 +12,13 @@ import java.time.LocalDateTime;
 @Setter
 @Entity
 @Table(name = "mouse_request")
+// Fetch plan for request inbox/outbox views
+@NamedEntityGraph(name = "MouseRequest.summary", attributeNodes = {
+        @NamedAttributeNode("requestor"),
+        @NamedAttributeNode("mouse"),
+        @NamedAttributeNode("fromLab"),
+        @NamedAttributeNode("toLab")
+})
 public class MouseRequest {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -41,8 +48,14 @@ public class MouseRequest {
     @Column(name = "message", nullable = false, columnDefinition = "TEXT")
     private String message;
 
+    @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
-    private String status;
+    private Status status;
+
+    // Optimistic lock, so concurrent approve/reject/cancel of the same request can't both win
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -60,4 +73,21 @@ public class MouseRequest {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+
+    // Move the request to a new status, enforcing the lifecycle
+    public void transitionTo(Status next) {
+        if (status == null || !status.canTransitionTo(next)) {
+            throw new IllegalStateException("Cannot change request status from " + status + " to " + next);
+        }
+        status = next;
+    }
+
+    public enum Status {
+        PENDING, APPROVED, REJECTED, CANCELLED;
+
+        // Only pending requests can change, and only to one of the final states
+        public boolean canTransitionTo(Status next) {
+            return this == PENDING && next != null && next != PENDING;
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package com.davidfrivas.mouse_colony_app.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@Entity
+@Table(name = "mouse_subscription")
+// A standing query for mice freed up by other labs; null criteria match anything
+public class MouseSubscription {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "subscription_id")
+    private Long subscriptionId;
+
+    // Many subscriptions can belong to one user
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // The subscriber's lab (its own mice are never matched)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "lab_id", nullable = false)
+    private Lab lab;
+
+    @Column(name = "strain")
+    private String strain;
+
+    @Column(name = "genotype")
+    private String genotype;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sex")
+    private Mouse.Sex sex;
+
+    @Column(name = "min_age_days")
+    private Integer minAgeDays;
+
+    @Column(name = "max_age_days")
+    private Integer maxAgeDays;
+
+    @Builder.Default
+    @Column(name = "active", nullable = false)
+    private Boolean active = true;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
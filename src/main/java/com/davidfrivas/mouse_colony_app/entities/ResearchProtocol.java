@@ -2,6 +2,10 @@ package com.davidfrivas.mouse_colony_app.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -15,12 +19,17 @@ import java.util.Set;
 @Setter
 @Entity
 @Table(name = "research_protocol")
+// Reference data, read on nearly every write path and rarely changed
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 public class ResearchProtocol {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "protocol_id")
     private Long protocolId;
 
+    @NaturalId(mutable = true)
     @Column(name = "protocol_number", nullable = false, unique = true)
     private String protocolNumber;
 
@@ -41,7 +50,8 @@ public class ResearchProtocol {
     @Column(name = "approval_date")
     private LocalDate approvalDate;
 
-    @Column(name = "expiration_date")
+    // Generated column (approval_date + 1 year), MySQL rejects explicit values for it
+    @Column(name = "expiration_date", insertable = false, updatable = false)
     private LocalDate expirationDate;
 
     @Column(name = "created_at", nullable = false, updatable = false)
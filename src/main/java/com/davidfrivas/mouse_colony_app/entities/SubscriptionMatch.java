@@ -0,0 +1,37 @@
+package com.davidfrivas.mouse_colony_app.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Entity
+@Table(name = "subscription_match")
+// A mouse that matched a subscription; rows are written by SubscriptionMatcher with INSERT IGNORE
+public class SubscriptionMatch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "match_id")
+    private Long matchId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "subscription_id", nullable = false)
+    private MouseSubscription subscription;
+
+    // Copied from the subscription for the inbox index
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "mouse_id", nullable = false)
+    private Mouse mouse;
+
+    @Column(name = "matched_at", nullable = false)
+    private LocalDateTime matchedAt;
+
+    @Column(name = "seen", nullable = false)
+    private Boolean seen;
+}
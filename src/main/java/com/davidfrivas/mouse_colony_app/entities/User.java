@@ -2,6 +2,10 @@ package com.davidfrivas.mouse_colony_app.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -14,12 +18,17 @@ import java.util.Set;
 @Setter
 @Entity
 @Table(name = "user")
+// Reference data, read on nearly every write path and rarely changed
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_id")
     private Long userId;
 
+    @NaturalId(mutable = true)
     @Column(name = "username", nullable = false, unique = true)
     private String username;
 
@@ -0,0 +1,12 @@
+package com.davidfrivas.mouse_colony_app.events;
+
+import java.util.Collection;
+import java.util.List;
+
+// Mice whose searchable attributes (strain, genotype, sex, availability, lab, birth date) changed,
+// or that were created or deleted; listeners re-read them from the database
+public record MouseChangedEvent(Collection<Long> mouseIds) {
+    public static MouseChangedEvent of(Long mouseId) {
+        return new MouseChangedEvent(List.of(mouseId));
+    }
+}
@@ -0,0 +1,38 @@
+package com.davidfrivas.mouse_colony_app.events;
+
+import com.davidfrivas.mouse_colony_app.entities.MouseRequest;
+
+import java.time.LocalDateTime;
+
+// Lifecycle change of a mouse request, published by MouseRequestService
+public record MouseRequestEvent(
+        Type type,
+        Long requestId,
+        Long mouseId,
+        Long fromLabId,
+        Long toLabId,
+        MouseRequest.Status status,
+        LocalDateTime occurredAt
+) {
+    public enum Type {
+        CREATED, APPROVED, REJECTED, CANCELLED;
+
+        // Status a request has after this event
+        public MouseRequest.Status resultingStatus() {
+            return this == CREATED ? MouseRequest.Status.PENDING : MouseRequest.Status.valueOf(name());
+        }
+    }
+
+    // Status comes from the event type, so events for bulk-updated (stale) instances stay correct
+    public static MouseRequestEvent of(Type type, MouseRequest request) {
+        return new MouseRequestEvent(
+                type,
+                request.getRequestId(),
+                request.getMouse().getMouseId(),
+                request.getFromLab().getLabId(),
+                request.getToLab().getLabId(),
+                type.resultingStatus(),
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.davidfrivas.mouse_colony_app.repositories;
+
+// Candidate breeder returned by MouseRepository.findBreedingCandidates
+public interface BreederRow {
+    Long getMouseId();
+
+    String getName();
+
+    String getSex();
+
+    Long getLabId();
+}
@@ -0,0 +1,21 @@
+package com.davidfrivas.mouse_colony_app.repositories;
+
+// Row returned by the breeding-performance queries in LitterRepository (fatherId is null for per-female rows)
+public interface BreedingPerformanceRow {
+    Long getMotherId();
+
+    String getMotherName();
+
+    Long getFatherId();
+
+    String getFatherName();
+
+    Long getLitterCount();
+
+    Long getTotalPups();
+
+    Double getMeanPupsPerLitter();
+
+    // Null when there is only one litter
+    Double getMeanInterLitterDays();
+}
@@ -0,0 +1,53 @@
+package com.davidfrivas.mouse_colony_app.repositories;
+
+import com.davidfrivas.mouse_colony_app.entities.LabStats;
+import com.davidfrivas.mouse_colony_app.entities.LabStats.LabCounts;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface LabStatsRepository extends CrudRepository<LabStats, Long> {
+    // Lock a lab's counters; trigger updates for the lab wait until the caller's transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM LabStats s WHERE s.labId = :labId")
+    Optional<LabStats> lockByLabId(@Param("labId") Long labId);
+
+    @Query("SELECT l.labId FROM Lab l ORDER BY l.labId")
+    List<Long> findAllLabIds();
+
+    // Count everything from the base tables (each count uses a lab_id index)
+    @Query(value = """
+            SELECT (SELECT COUNT(*) FROM user u WHERE u.lab_id = :labId) AS userCount,
+                   (SELECT COUNT(*) FROM research_protocol p WHERE p.lab_id = :labId) AS protocolCount,
+                   (SELECT COUNT(*) FROM mouse m WHERE m.lab_id = :labId) AS mouseCount,
+                   (SELECT COUNT(*) FROM mouse m WHERE m.lab_id = :labId AND m.availability = TRUE) AS availableMouseCount,
+                   (SELECT COUNT(*) FROM litter lt WHERE lt.lab_id = :labId) AS litterCount,
+                   (SELECT COUNT(*) FROM mouse_request r WHERE r.from_lab_id = :labId AND r.status = 'PENDING') AS pendingInboundCount,
+                   (SELECT COUNT(*) FROM mouse_request r WHERE r.to_lab_id = :labId AND r.status = 'PENDING') AS pendingOutboundCount
+            """, nativeQuery = true)
+    LabCounts countActual(@Param("labId") Long labId);
+
+    // Create a missing counter row (labs inserted before V12 or with triggers bypassed)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO lab_stats (lab_id) VALUES (:labId)", nativeQuery = true)
+    int createIfMissing(@Param("labId") Long labId);
+
+    // Overwrite a lab's counters with recounted values
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE lab_stats
+            SET user_count = :users, protocol_count = :protocols, mouse_count = :mice,
+                available_mouse_count = :availableMice, litter_count = :litters,
+                pending_inbound_count = :pendingInbound, pending_outbound_count = :pendingOutbound
+            WHERE lab_id = :labId
+            """, nativeQuery = true)
+    int overwrite(@Param("labId") Long labId, @Param("users") int users, @Param("protocols") int protocols,
+                  @Param("mice") int mice, @Param("availableMice") int availableMice, @Param("litters") int litters,
+                  @Param("pendingInbound") int pendingInbound, @Param("pendingOutbound") int pendingOutbound);
+}
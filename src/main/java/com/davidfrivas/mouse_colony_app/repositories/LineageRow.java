@@ -0,0 +1,8 @@
+package com.davidfrivas.mouse_colony_app.repositories;
+
+// Row returned by the recursive pedigree queries in MouseRepository
+public interface LineageRow {
+    Long getMouseId();
+
+    Integer getGeneration();
+}
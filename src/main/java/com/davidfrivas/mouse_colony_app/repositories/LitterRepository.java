@@ -1,7 +1,116 @@
 package com.davidfrivas.mouse_colony_app.repositories;
 
+import com.davidfrivas.mouse_colony_app.dtos.LitterExportRow;
 import com.davidfrivas.mouse_colony_app.entities.Litter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface LitterRepository extends CrudRepository<Litter, Long> {
-}
\ No newline at end of file
+    // Load lab/protocol/parents with the litters so callers of findAll() don't hit N+1 lazy loads
+    @Override
+    @EntityGraph("Litter.summary")
+    Iterable<Litter> findAll();
+
+    // Litters with lab/protocol/parents in one query (bulk weaning)
+    @EntityGraph("Litter.summary")
+    @Query("SELECT lt FROM Litter lt WHERE lt.litterId IN :ids")
+    List<Litter> findAllWithDetails(@Param("ids") Collection<Long> ids);
+
+    // Keyset page of flat export rows, ordered by id (pass the last id of the previous page)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.davidfrivas.mouse_colony_app.dtos.LitterExportRow(
+                lt.litterId, lt.name, lt.dateOfBirth, l.labId, l.name, p.protocolId, p.protocolNumber,
+                lt.mother.mouseId, lt.father.mouseId, lt.createdAt)
+            FROM Litter lt
+            JOIN lt.lab l
+            JOIN lt.protocol p
+            WHERE lt.litterId > :afterId
+            ORDER BY lt.litterId
+            """)
+    List<LitterExportRow> findExportRowsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Litters of a lab, newest first (idx_litter_lab_dob)
+    @EntityGraph("Litter.summary")
+    @Query("SELECT lt FROM Litter lt WHERE lt.lab.labId = :labId ORDER BY lt.dateOfBirth DESC")
+    List<Litter> findByLabId(@Param("labId") Long labId);
+
+    @EntityGraph("Litter.summary")
+    @Query("SELECT lt FROM Litter lt WHERE lt.protocol.protocolId = :protocolId ORDER BY lt.dateOfBirth DESC")
+    List<Litter> findByProtocolId(@Param("protocolId") Long protocolId);
+
+    // Litters of a female in birth order; idx_litter_mother_father_dob finds her rows by its mother_id prefix, but
+    // father_id sits before date_of_birth, so the few litters a female has are sorted after the lookup
+    @EntityGraph("Litter.summary")
+    @Query("SELECT lt FROM Litter lt WHERE lt.mother.mouseId = :motherId ORDER BY lt.dateOfBirth")
+    List<Litter> findByMotherId(@Param("motherId") Long motherId);
+
+    @EntityGraph("Litter.summary")
+    @Query("SELECT lt FROM Litter lt WHERE lt.father.mouseId = :fatherId ORDER BY lt.dateOfBirth")
+    List<Litter> findByFatherId(@Param("fatherId") Long fatherId);
+
+    // Litters of one breeding pair in birth order, a range read of idx_litter_mother_father_dob
+    @EntityGraph("Litter.summary")
+    @Query("""
+            SELECT lt FROM Litter lt
+            WHERE lt.mother.mouseId = :motherId AND lt.father.mouseId = :fatherId
+            ORDER BY lt.dateOfBirth
+            """)
+    List<Litter> findByBreedingPair(@Param("motherId") Long motherId, @Param("fatherId") Long fatherId);
+
+    // Breeding performance of each female in a lab: litters, pups (counted from mouse.litter_id) and the mean
+    // gap between consecutive litters (LAG over her litters in birth order), all computed in the database
+    @Query(value = """
+            WITH litter_stats AS (
+                SELECT lt.mother_id,
+                       (SELECT COUNT(*) FROM mouse m WHERE m.litter_id = lt.litter_id) AS pups,
+                       DATEDIFF(lt.date_of_birth,
+                                LAG(lt.date_of_birth) OVER (PARTITION BY lt.mother_id ORDER BY lt.date_of_birth, lt.litter_id)) AS gap_days
+                FROM litter lt
+                WHERE lt.lab_id = :labId
+            )
+            SELECT s.mother_id AS motherId, dam.name AS motherName, NULL AS fatherId, NULL AS fatherName,
+                   COUNT(*) AS litterCount, SUM(s.pups) AS totalPups, AVG(s.pups) AS meanPupsPerLitter,
+                   AVG(s.gap_days) AS meanInterLitterDays
+            FROM litter_stats s
+            JOIN mouse dam ON dam.mouse_id = s.mother_id
+            GROUP BY s.mother_id, dam.name
+            ORDER BY s.mother_id
+            """, nativeQuery = true)
+    List<BreedingPerformanceRow> findFemaleBreedingPerformance(@Param("labId") Long labId);
+
+    // Same, per breeding pair (the gap is between the pair's own consecutive litters)
+    @Query(value = """
+            WITH litter_stats AS (
+                SELECT lt.mother_id, lt.father_id,
+                       (SELECT COUNT(*) FROM mouse m WHERE m.litter_id = lt.litter_id) AS pups,
+                       DATEDIFF(lt.date_of_birth,
+                                LAG(lt.date_of_birth) OVER (PARTITION BY lt.mother_id, lt.father_id ORDER BY lt.date_of_birth, lt.litter_id)) AS gap_days
+                FROM litter lt
+                WHERE lt.lab_id = :labId
+            )
+            SELECT s.mother_id AS motherId, dam.name AS motherName, s.father_id AS fatherId, sire.name AS fatherName,
+                   COUNT(*) AS litterCount, SUM(s.pups) AS totalPups, AVG(s.pups) AS meanPupsPerLitter,
+                   AVG(s.gap_days) AS meanInterLitterDays
+            FROM litter_stats s
+            JOIN mouse dam ON dam.mouse_id = s.mother_id
+            JOIN mouse sire ON sire.mouse_id = s.father_id
+            GROUP BY s.mother_id, dam.name, s.father_id, sire.name
+            ORDER BY s.mother_id, s.father_id
+            """, nativeQuery = true)
+    List<BreedingPerformanceRow> findPairBreedingPerformance(@Param("labId") Long labId);
+
+    // Newest litters of a lab, read off idx_litter_lab_dob
+    @EntityGraph("Litter.summary")
+    @Query("SELECT lt FROM Litter lt WHERE lt.lab.labId = :labId ORDER BY lt.dateOfBirth DESC")
+    List<Litter> findRecentByLab(@Param("labId") Long labId, Limit limit);
+}
@@ -0,0 +1,41 @@
+package com.davidfrivas.mouse_colony_app.repositories;
+
+import com.davidfrivas.mouse_colony_app.entities.LogEntryArchive;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface LogEntryArchiveRepository extends CrudRepository<LogEntryArchive, Long> {
+    // Archived entries of a lab in a time window, newest first
+    @Query("""
+            SELECT a FROM LogEntryArchive a
+            WHERE a.labId = :labId AND a.createdAt >= :from AND a.createdAt < :to
+            ORDER BY a.createdAt DESC
+            """)
+    Page<LogEntryArchive> findByLabBetween(@Param("labId") Long labId, @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to, Pageable pageable);
+
+    // Copy live entries into the archive table
+    @Modifying
+    @Query(value = """
+            INSERT INTO log_entry_archive (log_id, user_id, lab_id, content, created_at)
+            SELECT log_id, user_id, lab_id, content, created_at FROM log_entry
+            WHERE log_id IN (:logIds)
+            """, nativeQuery = true)
+    int copyEntries(@Param("logIds") Collection<Long> logIds);
+
+    // Copy the entries' mouse associations into the archive junction table
+    @Modifying
+    @Query(value = """
+            INSERT INTO mouse_log_entry_archive (log_id, mouse_id)
+            SELECT log_id, mouse_id FROM mouse_log_entry
+            WHERE log_id IN (:logIds)
+            """, nativeQuery = true)
+    int copyMouseLinks(@Param("logIds") Collection<Long> logIds);
+}
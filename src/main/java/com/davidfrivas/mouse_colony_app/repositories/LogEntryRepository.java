@@ -1,7 +1,103 @@
 package com.davidfrivas.mouse_colony_app.repositories;
 
+import com.davidfrivas.mouse_colony_app.dtos.LogEntryExportRow;
+import com.davidfrivas.mouse_colony_app.dtos.LogEntrySummary;
 import com.davidfrivas.mouse_colony_app.entities.LogEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface LogEntryRepository extends CrudRepository<LogEntry, Long> {
-}
\ No newline at end of file
+    // Keyset page of flat export rows, ordered by id (author is optional, hence the LEFT JOIN)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.davidfrivas.mouse_colony_app.dtos.LogEntryExportRow(
+                e.logId, l.labId, l.name, u.userId, u.username, e.content, e.createdAt)
+            FROM LogEntry e
+            JOIN e.lab l
+            LEFT JOIN e.user u
+            WHERE e.logId > :afterId
+            ORDER BY e.logId
+            """)
+    List<LogEntryExportRow> findExportRowsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Ranked full-text search (boolean mode, so terms can carry + and * operators)
+    @Query(value = """
+            SELECT e.* FROM log_entry e
+            WHERE MATCH(e.content) AGAINST (:query IN BOOLEAN MODE)
+            ORDER BY MATCH(e.content) AGAINST (:query IN BOOLEAN MODE) DESC, e.log_id DESC
+            """,
+            countQuery = """
+            SELECT COUNT(*) FROM log_entry e
+            WHERE MATCH(e.content) AGAINST (:query IN BOOLEAN MODE)
+            """,
+            nativeQuery = true)
+    Page<LogEntry> searchByContent(@Param("query") String query, Pageable pageable);
+
+    // Ranked full-text search within one lab
+    @Query(value = """
+            SELECT e.* FROM log_entry e
+            WHERE MATCH(e.content) AGAINST (:query IN BOOLEAN MODE) AND e.lab_id = :labId
+            ORDER BY MATCH(e.content) AGAINST (:query IN BOOLEAN MODE) DESC, e.log_id DESC
+            """,
+            countQuery = """
+            SELECT COUNT(*) FROM log_entry e
+            WHERE MATCH(e.content) AGAINST (:query IN BOOLEAN MODE) AND e.lab_id = :labId
+            """,
+            nativeQuery = true)
+    Page<LogEntry> searchByContentInLab(@Param("query") String query, @Param("labId") Long labId, Pageable pageable);
+
+    // Substring search for keywords too short for the full-text index (scans, so kept as a fallback)
+    // The keyword must have its LIKE wildcards escaped with '!'
+    @Query("SELECT e FROM LogEntry e WHERE LOWER(e.content) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '!' ORDER BY e.logId DESC")
+    Page<LogEntry> searchByContentLike(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query("SELECT e FROM LogEntry e WHERE e.lab.labId = :labId AND LOWER(e.content) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '!' ORDER BY e.logId DESC")
+    Page<LogEntry> searchByContentLikeInLab(@Param("keyword") String keyword, @Param("labId") Long labId, Pageable pageable);
+
+    // Newest entries of a lab, read straight off idx_log_entry_lab_created
+    @Query("SELECT e FROM LogEntry e WHERE e.lab.labId = :labId ORDER BY e.createdAt DESC")
+    List<LogEntry> findRecentByLab(@Param("labId") Long labId, Limit limit);
+
+    // Same as findRecentByLab, as list-view rows (author joined in, mice not loaded)
+    @Query("""
+            SELECT new com.davidfrivas.mouse_colony_app.dtos.LogEntrySummary(e.logId, e.content, e.createdAt, u.userId, u.name)
+            FROM LogEntry e LEFT JOIN e.user u
+            WHERE e.lab.labId = :labId
+            ORDER BY e.createdAt DESC
+            """)
+    List<LogEntrySummary> findRecentSummariesByLab(@Param("labId") Long labId, Limit limit);
+
+    // Oldest entries past a cutoff (candidates for archival)
+    @Query("SELECT e.logId FROM LogEntry e WHERE e.createdAt < :cutoff ORDER BY e.createdAt")
+    List<Long> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    // Delete entries by id in one statement (mouse_log_entry rows cascade in the DB)
+    @Modifying
+    @Query(value = "DELETE FROM log_entry WHERE log_id IN (:logIds)", nativeQuery = true)
+    int deleteByLogIds(@Param("logIds") Collection<Long> logIds);
+
+    // Link many mice to an entry in one statement (already-linked mice are skipped)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT IGNORE INTO mouse_log_entry (log_id, mouse_id)
+            SELECT :logId, m.mouse_id FROM mouse m WHERE m.mouse_id IN (:mouseIds)
+            """, nativeQuery = true)
+    int addMouseLinks(@Param("logId") Long logId, @Param("mouseIds") Collection<Long> mouseIds);
+
+    // Unlink many mice from an entry in one statement
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM mouse_log_entry WHERE log_id = :logId AND mouse_id IN (:mouseIds)", nativeQuery = true)
+    int removeMouseLinks(@Param("logId") Long logId, @Param("mouseIds") Collection<Long> mouseIds);
+}
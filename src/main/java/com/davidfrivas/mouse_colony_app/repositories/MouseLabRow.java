@@ -0,0 +1,8 @@
+package com.davidfrivas.mouse_colony_app.repositories;
+
+// Mouse id with its current lab, returned by locking reads in MouseRepository
+public interface MouseLabRow {
+    Long getMouseId();
+
+    Long getLabId();
+}
@@ -1,7 +1,226 @@
 package com.davidfrivas.mouse_colony_app.repositories;
 
+import com.davidfrivas.mouse_colony_app.dtos.MouseExportRow;
+import com.davidfrivas.mouse_colony_app.dtos.MouseFacetRow;
 import com.davidfrivas.mouse_colony_app.entities.Mouse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 public interface MouseRepository extends CrudRepository<Mouse, Long> {
-}
\ No newline at end of file
+    // Load lab/protocol/user with the mice so callers of findAll() don't hit N+1 lazy loads
+    @Override
+    @EntityGraph("Mouse.summary")
+    Iterable<Mouse> findAll();
+
+    // Available mice in a lab (backed by idx_mouse_lab_availability)
+    @EntityGraph("Mouse.summary")
+    @Query("SELECT m FROM Mouse m WHERE m.lab.labId = :labId AND m.availability = true")
+    List<Mouse> findAvailableByLabId(@Param("labId") Long labId);
+
+    @EntityGraph("Mouse.summary")
+    @Query("SELECT m FROM Mouse m WHERE m.lab.labId = :labId AND m.availability = true")
+    Slice<Mouse> findAvailableByLabId(@Param("labId") Long labId, Pageable pageable);
+
+    // Mice on a protocol
+    @EntityGraph("Mouse.summary")
+    @Query("SELECT m FROM Mouse m WHERE m.protocol.protocolId = :protocolId")
+    List<Mouse> findByProtocolId(@Param("protocolId") Long protocolId);
+
+    @EntityGraph("Mouse.summary")
+    @Query("SELECT m FROM Mouse m WHERE m.protocol.protocolId = :protocolId")
+    Page<Mouse> findByProtocolId(@Param("protocolId") Long protocolId, Pageable pageable);
+
+    // Mice created by a user
+    @EntityGraph("Mouse.summary")
+    @Query("SELECT m FROM Mouse m WHERE m.user.userId = :userId")
+    List<Mouse> findByUserId(@Param("userId") Long userId);
+
+    @EntityGraph("Mouse.summary")
+    @Query("SELECT m FROM Mouse m WHERE m.user.userId = :userId")
+    Page<Mouse> findByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // Direct offspring of a mouse, through either parent column
+    @EntityGraph("Mouse.summary")
+    @Query("SELECT m FROM Mouse m WHERE m.mother.mouseId = :parentId OR m.father.mouseId = :parentId")
+    List<Mouse> findOffspring(@Param("parentId") Long parentId);
+
+    @EntityGraph("Mouse.summary")
+    @Query("SELECT m FROM Mouse m WHERE m.mother.mouseId = :parentId OR m.father.mouseId = :parentId")
+    Slice<Mouse> findOffspring(@Param("parentId") Long parentId, Pageable pageable);
+
+    // All descendants up to maxGenerations, with the closest generation each mouse is reached at
+    // Each parent column is walked in its own recursive branch so both FK indexes are used
+    @Query(value = """
+            WITH RECURSIVE descendants (mouse_id, generation) AS (
+                SELECT m.mouse_id, 1 FROM mouse m WHERE m.mother_id = :mouseId
+                UNION DISTINCT
+                SELECT m.mouse_id, 1 FROM mouse m WHERE m.father_id = :mouseId
+                UNION DISTINCT
+                SELECT c.mouse_id, d.generation + 1 FROM descendants d
+                    JOIN mouse c ON c.mother_id = d.mouse_id WHERE d.generation < :maxGenerations
+                UNION DISTINCT
+                SELECT c.mouse_id, d.generation + 1 FROM descendants d
+                    JOIN mouse c ON c.father_id = d.mouse_id WHERE d.generation < :maxGenerations
+            )
+            SELECT mouse_id AS mouseId, MIN(generation) AS generation
+            FROM descendants
+            GROUP BY mouse_id
+            ORDER BY generation, mouseId
+            """, nativeQuery = true)
+    List<LineageRow> findDescendants(@Param("mouseId") Long mouseId, @Param("maxGenerations") int maxGenerations);
+
+    // All ancestors up to maxGenerations, with the closest generation each mouse is reached at
+    @Query(value = """
+            WITH RECURSIVE ancestors (mouse_id, generation) AS (
+                SELECT m.mother_id, 1 FROM mouse m WHERE m.mouse_id = :mouseId AND m.mother_id IS NOT NULL
+                UNION DISTINCT
+                SELECT m.father_id, 1 FROM mouse m WHERE m.mouse_id = :mouseId AND m.father_id IS NOT NULL
+                UNION DISTINCT
+                SELECT p.mother_id, a.generation + 1 FROM ancestors a
+                    JOIN mouse p ON p.mouse_id = a.mouse_id
+                    WHERE p.mother_id IS NOT NULL AND a.generation < :maxGenerations
+                UNION DISTINCT
+                SELECT p.father_id, a.generation + 1 FROM ancestors a
+                    JOIN mouse p ON p.mouse_id = a.mouse_id
+                    WHERE p.father_id IS NOT NULL AND a.generation < :maxGenerations
+            )
+            SELECT mouse_id AS mouseId, MIN(generation) AS generation
+            FROM ancestors
+            GROUP BY mouse_id
+            ORDER BY generation, mouseId
+            """, nativeQuery = true)
+    List<LineageRow> findAncestors(@Param("mouseId") Long mouseId, @Param("maxGenerations") int maxGenerations);
+
+    // Keyset page of flat export rows, ordered by id (pass the last id of the previous page)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.davidfrivas.mouse_colony_app.dtos.MouseExportRow(
+                m.mouseId, m.name, m.sex, m.genotype, m.strain, m.dateOfBirth, m.availability,
+                l.labId, l.name, p.protocolId, p.protocolNumber, u.userId, u.username,
+                m.mother.mouseId, m.father.mouseId, m.litter.litterId, m.createdAt)
+            FROM Mouse m
+            JOIN m.lab l
+            JOIN m.protocol p
+            JOIN m.user u
+            WHERE m.mouseId > :afterId
+            ORDER BY m.mouseId
+            """)
+    List<MouseExportRow> findExportRowsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Facet index rows for an id range in id order (keyset: pass the last id of the previous page)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.davidfrivas.mouse_colony_app.dtos.MouseFacetRow(
+                m.mouseId, m.strain, m.genotype, m.sex, m.availability, m.lab.labId, m.dateOfBirth)
+            FROM Mouse m
+            WHERE m.mouseId > :afterId AND m.mouseId <= :toId
+            ORDER BY m.mouseId
+            """)
+    List<MouseFacetRow> findFacetRowsBetween(@Param("afterId") Long afterId, @Param("toId") Long toId, Limit limit);
+
+    // Facet index rows for specific mice (deleted ids are simply absent)
+    @Query("""
+            SELECT new com.davidfrivas.mouse_colony_app.dtos.MouseFacetRow(
+                m.mouseId, m.strain, m.genotype, m.sex, m.availability, m.lab.labId, m.dateOfBirth)
+            FROM Mouse m
+            WHERE m.mouseId IN :mouseIds
+            """)
+    List<MouseFacetRow> findFacetRows(@Param("mouseIds") Collection<Long> mouseIds);
+
+    @Query("SELECT MAX(m.mouseId) FROM Mouse m")
+    Long findMaxMouseId();
+
+    // Mice for a page of search results, with lab/protocol/user for MouseSummary
+    @EntityGraph("Mouse.summary")
+    @Query("SELECT m FROM Mouse m WHERE m.mouseId IN :mouseIds ORDER BY m.mouseId")
+    List<Mouse> findSummariesByIds(@Param("mouseIds") Collection<Long> mouseIds);
+
+    // Atomically move an available mouse between labs and mark it unavailable
+    // Returns 0 if the mouse was already taken or is no longer in fromLabId
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE mouse
+            SET lab_id = :toLabId, availability = FALSE, version = version + 1, updated_at = NOW()
+            WHERE mouse_id = :mouseId AND lab_id = :fromLabId AND availability = TRUE
+            """, nativeQuery = true)
+    int transferIfAvailable(@Param("mouseId") Long mouseId, @Param("fromLabId") Long fromLabId,
+                            @Param("toLabId") Long toLabId);
+
+    // Which of the given ids exist (one IN query, no entity loading)
+    @Query("SELECT m.mouseId FROM Mouse m WHERE m.mouseId IN :mouseIds")
+    List<Long> findExistingIds(@Param("mouseIds") Collection<Long> mouseIds);
+
+    // Lock the available mice among the given ids (in id order, so concurrent batches can't deadlock)
+    @Query(value = """
+            SELECT mouse_id AS mouseId, lab_id AS labId FROM mouse
+            WHERE mouse_id IN (:mouseIds) AND availability = TRUE
+            ORDER BY mouse_id
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<MouseLabRow> lockAvailable(@Param("mouseIds") Collection<Long> mouseIds);
+
+    // Move many mice to one lab and mark them unavailable (callers lock them with lockAvailable first)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE mouse
+            SET lab_id = :toLabId, availability = FALSE, version = version + 1, updated_at = NOW()
+            WHERE mouse_id IN (:mouseIds)
+            """, nativeQuery = true)
+    int transferAll(@Param("mouseIds") Collection<Long> mouseIds, @Param("toLabId") Long toLabId);
+
+    // Available, sexed mice of a strain born on or before a date, optionally in one lab (idx_mouse_strain_availability)
+    @Query(value = """
+            SELECT m.mouse_id AS mouseId, m.name AS name, m.sex AS sex, m.lab_id AS labId
+            FROM mouse m
+            WHERE m.strain = :strain AND m.availability = TRUE AND m.sex IS NOT NULL
+              AND m.date_of_birth <= :bornOnOrBefore
+              AND (:labId IS NULL OR m.lab_id = :labId)
+            ORDER BY m.mouse_id
+            """, nativeQuery = true)
+    List<BreederRow> findBreedingCandidates(@Param("strain") String strain,
+                                            @Param("bornOnOrBefore") LocalDate bornOnOrBefore,
+                                            @Param("labId") Long labId);
+
+    // The same candidates plus every ancestor, each with its parents
+    // Parents missing on the mouse row fall back to its litter's; each parent column is its own recursive branch
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = """
+            WITH RECURSIVE pedigree (mouse_id, mother_id, father_id) AS (
+                SELECT m.mouse_id, COALESCE(m.mother_id, lt.mother_id), COALESCE(m.father_id, lt.father_id)
+                FROM mouse m
+                LEFT JOIN litter lt ON lt.litter_id = m.litter_id
+                WHERE m.strain = :strain AND m.availability = TRUE AND m.sex IS NOT NULL
+                  AND m.date_of_birth <= :bornOnOrBefore
+                  AND (:labId IS NULL OR m.lab_id = :labId)
+                UNION DISTINCT
+                SELECT p.mouse_id, COALESCE(p.mother_id, lt.mother_id), COALESCE(p.father_id, lt.father_id)
+                FROM pedigree c
+                JOIN mouse p ON p.mouse_id = c.mother_id
+                LEFT JOIN litter lt ON lt.litter_id = p.litter_id
+                UNION DISTINCT
+                SELECT p.mouse_id, COALESCE(p.mother_id, lt.mother_id), COALESCE(p.father_id, lt.father_id)
+                FROM pedigree c
+                JOIN mouse p ON p.mouse_id = c.father_id
+                LEFT JOIN litter lt ON lt.litter_id = p.litter_id
+            )
+            SELECT mouse_id AS mouseId, mother_id AS motherId, father_id AS fatherId
+            FROM pedigree
+            """, nativeQuery = true)
+    List<PedigreeRow> findBreedingPedigree(@Param("strain") String strain,
+                                           @Param("bornOnOrBefore") LocalDate bornOnOrBefore,
+                                           @Param("labId") Long labId);
+}
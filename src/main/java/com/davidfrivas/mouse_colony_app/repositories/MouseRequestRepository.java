@@ -1,7 +1,144 @@
 package com.davidfrivas.mouse_colony_app.repositories;
 
 import com.davidfrivas.mouse_colony_app.entities.MouseRequest;
+import com.davidfrivas.mouse_colony_app.entities.MouseRequest.Status;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface MouseRequestRepository extends CrudRepository<MouseRequest, Long> {
-}
\ No newline at end of file
+    // Load requestor/mouse/labs with the requests so callers of findAll() don't hit N+1 lazy loads
+    @Override
+    @EntityGraph("MouseRequest.summary")
+    Iterable<MouseRequest> findAll();
+
+    @EntityGraph("MouseRequest.summary")
+    @Query("SELECT r FROM MouseRequest r WHERE r.status = :status ORDER BY r.createdAt DESC")
+    List<MouseRequest> findByStatus(@Param("status") Status status);
+
+    @EntityGraph("MouseRequest.summary")
+    @Query("SELECT r FROM MouseRequest r WHERE r.requestor.userId = :requestorId ORDER BY r.createdAt DESC")
+    List<MouseRequest> findByRequestorId(@Param("requestorId") Long requestorId);
+
+    @EntityGraph("MouseRequest.summary")
+    @Query("SELECT r FROM MouseRequest r WHERE r.mouse.mouseId = :mouseId ORDER BY r.createdAt DESC")
+    List<MouseRequest> findByMouseId(@Param("mouseId") Long mouseId);
+
+    @EntityGraph("MouseRequest.summary")
+    @Query("SELECT r FROM MouseRequest r WHERE r.fromLab.labId = :labId ORDER BY r.createdAt DESC")
+    List<MouseRequest> findByFromLabId(@Param("labId") Long labId);
+
+    @EntityGraph("MouseRequest.summary")
+    @Query("SELECT r FROM MouseRequest r WHERE r.toLab.labId = :labId ORDER BY r.createdAt DESC")
+    List<MouseRequest> findByToLabId(@Param("labId") Long labId);
+
+    @EntityGraph("MouseRequest.summary")
+    @Query("SELECT r FROM MouseRequest r WHERE r.fromLab.labId = :labId AND r.status = :status ORDER BY r.createdAt DESC")
+    List<MouseRequest> findByFromLabIdAndStatus(@Param("labId") Long labId, @Param("status") Status status);
+
+    // Inbox (requests for a lab's mice): first page, then keyset pages after a cursor
+    // Both read one range of idx_mouse_request_from_lab_status_created
+    @EntityGraph("MouseRequest.summary")
+    @Query("""
+            SELECT r FROM MouseRequest r
+            WHERE r.fromLab.labId = :labId AND r.status = :status
+            ORDER BY r.createdAt DESC, r.requestId DESC
+            """)
+    List<MouseRequest> findInbox(@Param("labId") Long labId, @Param("status") Status status, Limit limit);
+
+    @EntityGraph("MouseRequest.summary")
+    @Query("""
+            SELECT r FROM MouseRequest r
+            WHERE r.fromLab.labId = :labId AND r.status = :status
+              AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.requestId < :requestId))
+            ORDER BY r.createdAt DESC, r.requestId DESC
+            """)
+    List<MouseRequest> findInboxAfter(@Param("labId") Long labId, @Param("status") Status status,
+                                      @Param("createdAt") LocalDateTime createdAt, @Param("requestId") Long requestId,
+                                      Limit limit);
+
+    // Outbox (requests made by a lab), read from idx_mouse_request_to_lab_status_created
+    @EntityGraph("MouseRequest.summary")
+    @Query("""
+            SELECT r FROM MouseRequest r
+            WHERE r.toLab.labId = :labId AND r.status = :status
+            ORDER BY r.createdAt DESC, r.requestId DESC
+            """)
+    List<MouseRequest> findOutbox(@Param("labId") Long labId, @Param("status") Status status, Limit limit);
+
+    @EntityGraph("MouseRequest.summary")
+    @Query("""
+            SELECT r FROM MouseRequest r
+            WHERE r.toLab.labId = :labId AND r.status = :status
+              AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.requestId < :requestId))
+            ORDER BY r.createdAt DESC, r.requestId DESC
+            """)
+    List<MouseRequest> findOutboxAfter(@Param("labId") Long labId, @Param("status") Status status,
+                                       @Param("createdAt") LocalDateTime createdAt, @Param("requestId") Long requestId,
+                                       Limit limit);
+
+    // Pending requests for a mouse other than the given one (the ones an approval will reject)
+    @Query("""
+            SELECT r FROM MouseRequest r
+            WHERE r.mouse.mouseId = :mouseId AND r.status = :status AND r.requestId <> :excludedRequestId
+            """)
+    List<MouseRequest> findByMouseIdAndStatusExcluding(@Param("mouseId") Long mouseId, @Param("status") Status status,
+                                                       @Param("excludedRequestId") Long excludedRequestId);
+
+    // Reject every other pending request for a mouse once one has been approved
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE mouse_request
+            SET status = 'REJECTED', version = version + 1, updated_at = NOW()
+            WHERE mouse_id = :mouseId AND status = 'PENDING' AND request_id <> :approvedRequestId
+            """, nativeQuery = true)
+    int rejectCompetingRequests(@Param("mouseId") Long mouseId, @Param("approvedRequestId") Long approvedRequestId);
+
+    // Requests with their mouse and labs, for validating a bulk decision
+    @EntityGraph("MouseRequest.summary")
+    @Query("SELECT r FROM MouseRequest r WHERE r.requestId IN :requestIds")
+    List<MouseRequest> findAllWithDetails(@Param("requestIds") Collection<Long> requestIds);
+
+    // Lock the still-pending requests among the given ids (in id order)
+    @Query(value = """
+            SELECT request_id FROM mouse_request
+            WHERE request_id IN (:requestIds) AND status = 'PENDING'
+            ORDER BY request_id
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> lockPending(@Param("requestIds") Collection<Long> requestIds);
+
+    // Pending requests for any of the mice, other than the given requests
+    @Query("""
+            SELECT r FROM MouseRequest r
+            WHERE r.mouse.mouseId IN :mouseIds AND r.status = :status AND r.requestId NOT IN :excludedRequestIds
+            """)
+    List<MouseRequest> findByMouseIdsAndStatusExcluding(@Param("mouseIds") Collection<Long> mouseIds,
+                                                        @Param("status") Status status,
+                                                        @Param("excludedRequestIds") Collection<Long> excludedRequestIds);
+
+    // Set the status of many requests in one statement (status is the enum name)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE mouse_request
+            SET status = :status, version = version + 1, updated_at = NOW()
+            WHERE request_id IN (:requestIds)
+            """, nativeQuery = true)
+    int updateStatus(@Param("requestIds") Collection<Long> requestIds, @Param("status") String status);
+
+    // Reject every pending request for any of the mice
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE mouse_request
+            SET status = 'REJECTED', version = version + 1, updated_at = NOW()
+            WHERE mouse_id IN (:mouseIds) AND status = 'PENDING'
+            """, nativeQuery = true)
+    int rejectPendingForMice(@Param("mouseIds") Collection<Long> mouseIds);
+}
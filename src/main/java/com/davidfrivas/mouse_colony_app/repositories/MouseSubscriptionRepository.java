@@ -0,0 +1,20 @@
+package com.davidfrivas.mouse_colony_app.repositories;
+
+import com.davidfrivas.mouse_colony_app.entities.MouseSubscription;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MouseSubscriptionRepository extends CrudRepository<MouseSubscription, Long> {
+    // Every active subscription (loaded into SubscriptionMatcher at startup; user/lab stay unloaded proxies)
+    @Query("SELECT s FROM MouseSubscription s WHERE s.active = true")
+    List<MouseSubscription> findAllActive();
+
+    @Query("SELECT s FROM MouseSubscription s WHERE s.user.userId = :userId AND s.active = true ORDER BY s.subscriptionId")
+    List<MouseSubscription> findActiveByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(s) FROM MouseSubscription s WHERE s.user.userId = :userId AND s.active = true")
+    long countActiveByUserId(@Param("userId") Long userId);
+}
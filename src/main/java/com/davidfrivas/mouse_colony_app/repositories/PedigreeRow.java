@@ -0,0 +1,10 @@
+package com.davidfrivas.mouse_colony_app.repositories;
+
+// One animal and its parents, returned by MouseRepository.findBreedingPedigree (parents may be null)
+public interface PedigreeRow {
+    Long getMouseId();
+
+    Long getMotherId();
+
+    Long getFatherId();
+}
@@ -1,7 +1,21 @@
 package com.davidfrivas.mouse_colony_app.repositories;
 
 import com.davidfrivas.mouse_colony_app.entities.ResearchProtocol;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
 
 public interface ResearchProtocolRepository extends CrudRepository<ResearchProtocol, Long> {
-}
\ No newline at end of file
+    // Approved, unexpired protocols of a lab (backed by idx_research_protocol_lab_status)
+    @Query("""
+            SELECT p FROM ResearchProtocol p
+            WHERE p.lab.labId = :labId AND p.status = 'APPROVED'
+              AND (p.expirationDate IS NULL OR p.expirationDate >= :today)
+            ORDER BY p.expirationDate
+            """)
+    List<ResearchProtocol> findActiveByLab(@Param("labId") Long labId, @Param("today") LocalDate today, Limit limit);
+}
@@ -0,0 +1,31 @@
+package com.davidfrivas.mouse_colony_app.repositories;
+
+import com.davidfrivas.mouse_colony_app.dtos.SubscriptionMatchSummary;
+import com.davidfrivas.mouse_colony_app.entities.SubscriptionMatch;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SubscriptionMatchRepository extends CrudRepository<SubscriptionMatch, Long> {
+    // A user's matches after a cursor, oldest first (idx_subscription_match_user_match)
+    @Query("""
+            SELECT new com.davidfrivas.mouse_colony_app.dtos.SubscriptionMatchSummary(
+                sm.matchId, sm.subscription.subscriptionId, m.mouseId, m.name, m.strain, m.genotype, m.sex,
+                m.dateOfBirth, m.availability, l.labId, l.name, sm.matchedAt, sm.seen)
+            FROM SubscriptionMatch sm
+            JOIN sm.mouse m
+            JOIN m.lab l
+            WHERE sm.userId = :userId AND sm.matchId > :afterId
+            ORDER BY sm.matchId
+            """)
+    List<SubscriptionMatchSummary> findByUserIdAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Limit limit);
+
+    @Modifying
+    @Query("UPDATE SubscriptionMatch sm SET sm.seen = true WHERE sm.userId = :userId AND sm.matchId IN :matchIds")
+    int markSeen(@Param("userId") Long userId, @Param("matchIds") Collection<Long> matchIds);
+}
@@ -0,0 +1,95 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.config.BreedingRecommendationProperties;
+import com.davidfrivas.mouse_colony_app.dtos.BreedingPairRecommendation;
+import com.davidfrivas.mouse_colony_app.entities.Mouse;
+import com.davidfrivas.mouse_colony_app.repositories.BreederRow;
+import com.davidfrivas.mouse_colony_app.repositories.MouseRepository;
+import com.davidfrivas.mouse_colony_app.repositories.PedigreeRow;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Suggests breeding pairs with the least shared ancestry among the available breeders of a strain
+@AllArgsConstructor
+@Service
+public class BreedingRecommendationService {
+    private final MouseRepository mouseRepository;
+    private final BreedingRecommendationProperties properties;
+
+    // Lowest-kinship pairs in every lab that has breeders of the strain
+    public List<BreedingPairRecommendation> recommendPairs(String strain) {
+        return recommend(strain, null);
+    }
+
+    // Lowest-kinship pairs in one lab
+    public List<BreedingPairRecommendation> recommendPairs(String strain, Long labId) {
+        if (labId == null) {
+            throw new IllegalArgumentException("Lab id is required");
+        }
+        return recommend(strain, labId);
+    }
+
+    private List<BreedingPairRecommendation> recommend(String strain, Long labId) {
+        if (strain == null || strain.trim().isEmpty()) {
+            throw new IllegalArgumentException("Strain is required");
+        }
+        LocalDate bornOnOrBefore = LocalDate.now().minus(properties.minBreedingAge());
+
+        List<BreederRow> candidates = mouseRepository.findBreedingCandidates(strain, bornOnOrBefore, labId);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        KinshipPedigree pedigree = toPedigree(mouseRepository.findBreedingPedigree(strain, bornOnOrBefore, labId));
+
+        // Pairs stay within a lab; labs are ranked in parallel, and each lab's females in parallel again
+        Map<Long, List<BreederRow>> byLab = candidates.stream()
+                .collect(Collectors.groupingBy(BreederRow::getLabId, TreeMap::new, Collectors.toList()));
+        Map<Long, BreederRow> byId = candidates.stream()
+                .collect(Collectors.toMap(BreederRow::getMouseId, c -> c));
+
+        return byLab.entrySet().parallelStream()
+                .flatMap(lab -> {
+                    int[] females = indexes(pedigree, lab.getValue(), Mouse.Sex.F);
+                    int[] males = indexes(pedigree, lab.getValue(), Mouse.Sex.M);
+                    return pedigree.lowestKinshipPairs(females, males, properties.pairsPerLab(), properties.malesPerFemale())
+                            .stream()
+                            .map(pair -> toRecommendation(lab.getKey(), pair, pedigree, byId));
+                })
+                .toList();
+    }
+
+    private static KinshipPedigree toPedigree(List<PedigreeRow> rows) {
+        long[] mouseIds = new long[rows.size()];
+        long[] fatherIds = new long[rows.size()];
+        long[] motherIds = new long[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            PedigreeRow row = rows.get(i);
+            mouseIds[i] = row.getMouseId();
+            fatherIds[i] = row.getFatherId() == null ? 0 : row.getFatherId();
+            motherIds[i] = row.getMotherId() == null ? 0 : row.getMotherId();
+        }
+        return KinshipPedigree.of(mouseIds, fatherIds, motherIds);
+    }
+
+    private static int[] indexes(KinshipPedigree pedigree, List<BreederRow> breeders, Mouse.Sex sex) {
+        return breeders.stream()
+                .filter(b -> sex.name().equals(b.getSex()))
+                .mapToInt(b -> pedigree.indexOf(b.getMouseId()))
+                .filter(i -> i >= 0)
+                .toArray();
+    }
+
+    private static BreedingPairRecommendation toRecommendation(Long labId, KinshipPedigree.Pairing pair,
+                                                               KinshipPedigree pedigree, Map<Long, BreederRow> byId) {
+        BreederRow female = byId.get(pedigree.idAt(pair.female()));
+        BreederRow male = byId.get(pedigree.idAt(pair.male()));
+        return new BreedingPairRecommendation(labId,
+                female.getMouseId(), female.getName(), pedigree.inbreeding(pair.female()),
+                male.getMouseId(), male.getName(), pedigree.inbreeding(pair.male()),
+                pair.kinship());
+    }
+}
@@ -0,0 +1,112 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.dtos.LitterExportRow;
+import com.davidfrivas.mouse_colony_app.dtos.LogEntryExportRow;
+import com.davidfrivas.mouse_colony_app.dtos.MouseExportRow;
+import com.davidfrivas.mouse_colony_app.repositories.LitterRepository;
+import com.davidfrivas.mouse_colony_app.repositories.LogEntryRepository;
+import com.davidfrivas.mouse_colony_app.repositories.MouseRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+@AllArgsConstructor
+@Service
+public class ColonyExportService {
+    // Rows read per keyset page (matches the fetch size hint on the export queries)
+    public static final int PAGE_SIZE = 1000;
+
+    private final MouseRepository mouseRepository;
+    private final LitterRepository litterRepository;
+    private final LogEntryRepository logEntryRepository;
+    private final ObjectMapper objectMapper;
+
+    // Export all mice, returning the number of rows written
+    public long exportMice(OutputStream output, DataFormat format) throws IOException {
+        return export(output, format, MouseExportRow.class,
+                mouseRepository::findExportRowsAfter, MouseExportRow::mouseId);
+    }
+
+    // Export all litters, returning the number of rows written
+    public long exportLitters(OutputStream output, DataFormat format) throws IOException {
+        return export(output, format, LitterExportRow.class,
+                litterRepository::findExportRowsAfter, LitterExportRow::litterId);
+    }
+
+    // Export all log entries, returning the number of rows written
+    public long exportLogEntries(OutputStream output, DataFormat format) throws IOException {
+        return export(output, format, LogEntryExportRow.class,
+                logEntryRepository::findExportRowsAfter, LogEntryExportRow::logId);
+    }
+
+    // Read keyset pages and write each one out before fetching the next, so only one page is in memory
+    // The stream is flushed but not closed (the caller owns it)
+    private <T extends Record> long export(OutputStream output, DataFormat format, Class<T> rowType,
+                                           BiFunction<Long, Limit, List<T>> pageQuery,
+                                           Function<T, Long> idGetter) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        RecordComponent[] components = rowType.getRecordComponents();
+
+        if (format == DataFormat.CSV) {
+            for (int i = 0; i < components.length; i++) {
+                if (i > 0) writer.write(',');
+                writer.write(components[i].getName());
+            }
+            writer.write('\n');
+        }
+
+        long written = 0;
+        long afterId = 0L;
+        List<T> page;
+        do {
+            page = pageQuery.apply(afterId, Limit.of(PAGE_SIZE));
+            for (T row : page) {
+                if (format == DataFormat.CSV) {
+                    writeCsvRow(writer, row, components);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+            }
+            written += page.size();
+            if (!page.isEmpty()) {
+                afterId = idGetter.apply(page.get(page.size() - 1));
+            }
+            writer.flush();
+        } while (page.size() == PAGE_SIZE);
+
+        return written;
+    }
+
+    private static void writeCsvRow(Writer writer, Record row, RecordComponent[] components) throws IOException {
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) writer.write(',');
+            Object value;
+            try {
+                value = components[i].getAccessor().invoke(row);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot read export column " + components[i].getName(), e);
+            }
+            if (value != null) {
+                writer.write(escapeCsv(value.toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    // Quote values containing separators, quotes or line breaks
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
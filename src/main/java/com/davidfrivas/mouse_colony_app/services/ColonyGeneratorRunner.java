@@ -0,0 +1,21 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Generates a synthetic colony on startup when app.generator.enabled=true, e.g.
+// java -jar app.jar --app.generator.enabled=true --app.generator.labs=500 --app.generator.seed=7
+@AllArgsConstructor
+@Component
+@ConditionalOnProperty(prefix = "app.generator", name = "enabled", havingValue = "true")
+public class ColonyGeneratorRunner implements ApplicationRunner {
+    private final ColonyGeneratorService generatorService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        generatorService.generate();
+    }
+}
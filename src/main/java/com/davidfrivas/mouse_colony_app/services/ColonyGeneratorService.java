@@ -0,0 +1,492 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.config.ColonyGeneratorProperties;
+import com.davidfrivas.mouse_colony_app.dtos.ColonyGenerationReport;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Writes deterministic synthetic colonies (labs, users, protocols, multi-generation pedigrees with litters,
+// log entries and request histories) for benchmarks, load tests and capacity planning
+// Rows go out as plain JDBC batches with precomputed ids, so nothing is read back while writing
+// Each table's id range is reserved up front, so the app can keep inserting while a colony is generated
+// Batches commit as they go; a failed run deletes the labs it reserved, with everything written into them
+@Slf4j
+@AllArgsConstructor
+@Service
+public class ColonyGeneratorService {
+    private static final String[] VOCABULARY = {
+            "cage", "change", "weaning", "genotyping", "breeding", "health", "check", "injection",
+            "surgery", "behavior", "weight", "tail", "biopsy", "transfer", "quarantine", "observation",
+            "tamoxifen", "imaging", "dermatitis", "euthanasia", "necropsy", "timed", "mating", "plug"
+    };
+    private static final String[] GENOTYPES = {"WT", "HET", "HOM", "Cre+", "Cre-", "fl/fl", "fl/+"};
+    private static final String[] STRAINS = {"C57BL/6J", "BALB/c", "129S1/SvImJ", "FVB/N", "CD-1", "DBA/2J"};
+    private static final int DAYS_PER_GENERATION = 90;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ColonyGeneratorProperties properties;
+
+    // Generate a colony shaped by app.generator.*
+    public ColonyGenerationReport generate() {
+        return generate(properties);
+    }
+
+    // Generate a colony with explicit settings
+    public ColonyGenerationReport generate(ColonyGeneratorProperties spec) {
+        validate(spec);
+        long started = System.nanoTime();
+        IdRanges ids = reserveIds(spec);
+
+        try {
+            ColonyGenerationReport report = write(spec, ids, started);
+            log.info("Generated {} rows ({} mice) in {}", report.totalRows(), report.mice(), report.elapsed());
+            return report;
+        } catch (RuntimeException e) {
+            // Earlier batches are already committed, and only generated rows can be in the reserved labs
+            long lastLabId = ids.firstLabId() + spec.labs() - 1;
+            log.warn("Colony generation failed, deleting labs {}-{}", ids.firstLabId(), lastLabId);
+            try {
+                deleteLabs(ids.firstLabId(), lastLabId);
+            } catch (RuntimeException cleanup) {
+                e.addSuppressed(cleanup);
+            }
+            throw e;
+        }
+    }
+
+    // Delete a generated colony: everything in its labs, including rows added since it was generated
+    public void deleteColony(ColonyGenerationReport report) {
+        deleteLabs(report.firstLabId(), report.labId(report.labs() - 1));
+    }
+
+    private ColonyGenerationReport write(ColonyGeneratorProperties spec, IdRanges ids, long started) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            // Rows reference each other in every direction (requests point at later labs, offspring at litters),
+            // and the generator keeps them consistent itself
+            setChecks(connection, false);
+            try {
+                return new Generation(connection, spec, ids).write(started);
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                setChecks(connection, true);
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Colony generation failed", e);
+        }
+    }
+
+    private void deleteLabs(long firstLabId, long lastLabId) {
+        Object[] labs = {firstLabId, lastLabId};
+        jdbcTemplate.update("DELETE FROM mouse_request WHERE from_lab_id BETWEEN ? AND ? OR to_lab_id BETWEEN ? AND ?",
+                labs[0], labs[1], labs[0], labs[1]);
+        jdbcTemplate.update("DELETE FROM log_entry WHERE lab_id BETWEEN ? AND ?", labs);
+        // Break pedigree/litter references first so mice and litters can go in any order
+        jdbcTemplate.update("UPDATE mouse SET mother_id = NULL, father_id = NULL, litter_id = NULL WHERE lab_id BETWEEN ? AND ?", labs);
+        jdbcTemplate.update("DELETE FROM litter WHERE lab_id BETWEEN ? AND ?", labs);
+        jdbcTemplate.update("DELETE FROM mouse WHERE lab_id BETWEEN ? AND ?", labs);
+        jdbcTemplate.update("DELETE FROM research_protocol WHERE lab_id BETWEEN ? AND ?", labs);
+        jdbcTemplate.update("DELETE FROM user WHERE lab_id BETWEEN ? AND ?", labs);
+        jdbcTemplate.update("DELETE FROM lab WHERE lab_id BETWEEN ? AND ?", labs);
+    }
+
+    private static void validate(ColonyGeneratorProperties spec) {
+        if (spec.labs() < 1 || spec.usersPerLab() < 1 || spec.protocolsPerLab() < 1) {
+            throw new IllegalArgumentException("At least one lab, user and protocol per lab is required");
+        }
+        if (spec.foundersPerLab() < 2) {
+            throw new IllegalArgumentException("At least two founders per lab are required");
+        }
+        if (spec.minLitterSize() < 1 || spec.maxLitterSize() < spec.minLitterSize()) {
+            throw new IllegalArgumentException("Litter size range is invalid");
+        }
+        if (spec.approvedFraction() + spec.rejectedFraction() + spec.cancelledFraction() > 1) {
+            throw new IllegalArgumentException("Request status fractions must not add up to more than 1");
+        }
+        if (spec.batchSize() < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+    }
+
+    // Claim an id range per table, sized for the largest colony the spec can produce
+    private IdRanges reserveIds(ColonyGeneratorProperties spec) {
+        long labs = spec.labs();
+        long littersPerLab = (long) spec.generations() * spec.breedingPairsPerLab();
+        return new IdRanges(
+                reserve("lab", "lab_id", labs),
+                reserve("user", "user_id", labs * spec.usersPerLab()),
+                reserve("research_protocol", "protocol_id", labs * spec.protocolsPerLab()),
+                reserveMouseIds(labs * (spec.foundersPerLab() + littersPerLab * spec.maxLitterSize())),
+                reserve("litter", "litter_id", labs * littersPerLab),
+                reserve("log_entry", "log_id", labs * spec.logEntriesPerLab()),
+                reserve("mouse_request", "request_id", labs * spec.requestsPerLab()));
+    }
+
+    // Move the AUTO_INCREMENT counter past [first, first + count) so concurrent inserts land above the range
+    // A row inserted between reading the maximum and moving the counter can still fall inside it, so check and retry
+    private long reserve(String table, String idColumn, long count) {
+        while (true) {
+            long first = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) + 1 FROM " + table, Long.class);
+            jdbcTemplate.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + (first + count));
+            Long taken = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + idColumn + " BETWEEN ? AND ?",
+                    Long.class, first, first + count - 1);
+            if (taken == 0) {
+                return first;
+            }
+        }
+    }
+
+    // Mouse ids come from the pooled generator's id_sequence row; claim the range under the same row lock
+    // Hibernate takes when it fetches a block (same headroom as V6)
+    private long reserveMouseIds(long count) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                long first;
+                try (ResultSet result = statement.executeQuery(
+                        "SELECT next_val FROM id_sequence WHERE sequence_name = 'mouse' FOR UPDATE")) {
+                    first = result.next() ? result.getLong(1) : 1;
+                }
+                try (ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(mouse_id), 0) + 1 FROM mouse")) {
+                    result.next();
+                    first = Math.max(first, result.getLong(1));
+                }
+                statement.executeUpdate("UPDATE id_sequence SET next_val = " + (first + count + 100)
+                        + " WHERE sequence_name = 'mouse'");
+                connection.commit();
+                return first;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not reserve mouse ids", e);
+        }
+    }
+
+    private static void setChecks(Connection connection, boolean enabled) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET foreign_key_checks = " + (enabled ? 1 : 0));
+            statement.execute("SET unique_checks = " + (enabled ? 1 : 0));
+        }
+    }
+
+    // First id of each table's reserved range
+    private record IdRanges(long firstLabId, long firstUserId, long firstProtocolId, long firstMouseId,
+                            long firstLitterId, long firstLogId, long firstRequestId) {
+    }
+
+    // One run: id counters, the random stream and a batched INSERT per table
+    private static final class Generation {
+        private final Connection connection;
+        private final ColonyGeneratorProperties spec;
+        private final SplittableRandom random;
+
+        private final long firstLabId;
+        private final long firstUserId;
+        private final long firstProtocolId;
+        private final long firstMouseId;
+        private long nextMouseId;
+        private long nextLitterId;
+        private long nextLogId;
+        private long nextRequestId;
+
+        private final Inserter labs;
+        private final Inserter users;
+        private final Inserter protocols;
+        private final Inserter mice;
+        private final Inserter litters;
+        private final Inserter logEntries;
+        private final Inserter mouseLogLinks;
+        private final Inserter requests;
+
+        Generation(Connection connection, ColonyGeneratorProperties spec, IdRanges ids) throws SQLException {
+            this.connection = connection;
+            this.spec = spec;
+            this.random = new SplittableRandom(spec.seed());
+
+            firstLabId = ids.firstLabId();
+            firstUserId = ids.firstUserId();
+            firstProtocolId = ids.firstProtocolId();
+            firstMouseId = ids.firstMouseId();
+            nextMouseId = firstMouseId;
+            nextLitterId = ids.firstLitterId();
+            nextLogId = ids.firstLogId();
+            nextRequestId = ids.firstRequestId();
+
+            labs = new Inserter("INSERT INTO lab (lab_id, name, contact_email, institution, department, address, description) VALUES (?, ?, ?, ?, ?, ?, ?)");
+            users = new Inserter("INSERT INTO user (user_id, username, name, email, password, lab_id, role) VALUES (?, ?, ?, ?, ?, ?, ?)");
+            protocols = new Inserter("INSERT INTO research_protocol (protocol_id, protocol_number, title, description, lab_id, status, approval_date) VALUES (?, ?, ?, ?, ?, ?, ?)");
+            mice = new Inserter("INSERT INTO mouse (mouse_id, name, sex, genotype, strain, date_of_birth, availability, lab_id, protocol_id, user_id, mother_id, father_id, litter_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+            litters = new Inserter("INSERT INTO litter (litter_id, name, lab_id, mother_id, father_id, date_of_birth, protocol_id) VALUES (?, ?, ?, ?, ?, ?, ?)");
+            logEntries = new Inserter("INSERT INTO log_entry (log_id, user_id, lab_id, content, created_at) VALUES (?, ?, ?, ?, ?)");
+            mouseLogLinks = new Inserter("INSERT IGNORE INTO mouse_log_entry (log_id, mouse_id) VALUES (?, ?)");
+            requests = new Inserter("INSERT INTO mouse_request (request_id, requestor_id, mouse_id, from_lab_id, to_lab_id, message, status, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+
+        ColonyGenerationReport write(long started) throws SQLException {
+            // All labs go in first: their insert trigger creates the lab_stats rows the other tables' triggers update
+            for (int lab = 0; lab < spec.labs(); lab++) {
+                long labId = firstLabId + lab;
+                labs.add(labId, "Lab " + labId, "lab" + labId + "@example.org", "Synthetic Institute",
+                        "Department " + (lab % 20), labId + " Colony Road", "Generated lab " + labId);
+            }
+            labs.close();
+
+            for (int lab = 0; lab < spec.labs(); lab++) {
+                writeLab(lab);
+            }
+            for (Inserter inserter : new Inserter[]{users, protocols, mice, litters, logEntries, mouseLogLinks, requests}) {
+                inserter.close();
+            }
+
+            return new ColonyGenerationReport(firstLabId, spec.labs(), firstUserId, spec.usersPerLab(),
+                    firstProtocolId, spec.protocolsPerLab(), mice.rows, litters.rows, logEntries.rows,
+                    mouseLogLinks.rows, requests.rows, Duration.ofNanos(System.nanoTime() - started));
+        }
+
+        private void writeLab(int lab) throws SQLException {
+            long labId = firstLabId + lab;
+            for (int u = 0; u < spec.usersPerLab(); u++) {
+                long userId = userId(lab, u);
+                users.add(userId, "lab" + labId + "-user" + u, "User " + userId, "user" + userId + "@example.org",
+                        "generated", labId, u == 0 ? "MANAGER" : "MEMBER");
+            }
+            for (int p = 0; p < spec.protocolsPerLab(); p++) {
+                long protocolId = protocolId(lab, p);
+                protocols.add(protocolId, "P-" + labId + "-" + p, "Protocol " + protocolId, "Generated protocol",
+                        labId, "APPROVED", spec.referenceDate().minusDays(random.nextInt(365)));
+            }
+
+            LabMice labMice = writePedigree(lab, labId);
+            writeLogEntries(lab, labId, labMice);
+            if (spec.labs() > 1) {
+                writeRequests(lab, labId, labMice);
+            }
+        }
+
+        // Founders, then each generation bred from random pairs of the previous one
+        private LabMice writePedigree(int lab, long labId) throws SQLException {
+            LabMice labMice = new LabMice(nextMouseId);
+            String strain = STRAINS[lab % STRAINS.length];
+            LocalDate foundersBorn = spec.referenceDate().minusDays((long) (spec.generations() + 1) * DAYS_PER_GENERATION);
+
+            IdList dams = new IdList();
+            IdList sires = new IdList();
+            for (int i = 0; i < spec.foundersPerLab(); i++) {
+                boolean female = i % 2 == 0;
+                long mouseId = writeMouse(lab, labId, strain, female, foundersBorn.minusDays(random.nextInt(30)), null, null, null, labMice);
+                (female ? dams : sires).add(mouseId);
+            }
+
+            for (int generation = 1; generation <= spec.generations(); generation++) {
+                IdList nextDams = new IdList();
+                IdList nextSires = new IdList();
+                LocalDate generationBorn = foundersBorn.plusDays((long) generation * DAYS_PER_GENERATION);
+
+                for (int pair = 0; pair < spec.breedingPairsPerLab(); pair++) {
+                    long mother = dams.random(random);
+                    long father = sires.random(random);
+                    long litterId = nextLitterId++;
+                    LocalDate born = generationBorn.plusDays(random.nextInt(30));
+                    long protocolId = protocolId(lab, random.nextInt(spec.protocolsPerLab()));
+                    litters.add(litterId, "L" + labId + "-" + generation + "-" + pair, labId, mother, father, born, protocolId);
+
+                    int size = random.nextInt(spec.minLitterSize(), spec.maxLitterSize() + 1);
+                    for (int pup = 0; pup < size; pup++) {
+                        boolean female = random.nextBoolean();
+                        long mouseId = writeMouse(lab, labId, strain, female, born, mother, father, litterId, labMice);
+                        (female ? nextDams : nextSires).add(mouseId);
+                    }
+                }
+
+                // A generation without both sexes can't breed; keep using the previous parents
+                if (!nextDams.isEmpty() && !nextSires.isEmpty()) {
+                    dams = nextDams;
+                    sires = nextSires;
+                }
+            }
+            labMice.end = nextMouseId;
+            return labMice;
+        }
+
+        private long writeMouse(int lab, long labId, String strain, boolean female, LocalDate born,
+                                Long motherId, Long fatherId, Long litterId, LabMice labMice) throws SQLException {
+            long mouseId = nextMouseId++;
+            boolean available = random.nextDouble() < spec.availableFraction();
+            mice.add(mouseId, "M" + mouseId, female ? "F" : "M", GENOTYPES[random.nextInt(GENOTYPES.length)], strain,
+                    born, available, labId, protocolId(lab, random.nextInt(spec.protocolsPerLab())),
+                    userId(lab, random.nextInt(spec.usersPerLab())), motherId, fatherId, litterId);
+            (available ? labMice.available : labMice.unavailable).add(mouseId);
+            return mouseId;
+        }
+
+        private void writeLogEntries(int lab, long labId, LabMice labMice) throws SQLException {
+            for (int i = 0; i < spec.logEntriesPerLab(); i++) {
+                long logId = nextLogId++;
+                logEntries.add(logId, userId(lab, random.nextInt(spec.usersPerLab())), labId, sentence(), pastTimestamp(730));
+
+                int links = random.nextInt(spec.maxMicePerLogEntry() + 1);
+                for (int j = 0; j < links; j++) {
+                    mouseLogLinks.add(logId, labMice.start + random.nextLong(labMice.end - labMice.start));
+                }
+            }
+        }
+
+        // Approved requests moved a mouse into this lab; the others ask this lab for one of its mice
+        private void writeRequests(int lab, long labId, LabMice labMice) throws SQLException {
+            for (int i = 0; i < spec.requestsPerLab(); i++) {
+                int otherLab = (lab + 1 + random.nextInt(spec.labs() - 1)) % spec.labs();
+                long otherLabId = firstLabId + otherLab;
+                String status = requestStatus();
+
+                long mouseId;
+                long fromLabId = labId;
+                long toLabId = otherLabId;
+                long requestorId = userId(otherLab, random.nextInt(spec.usersPerLab()));
+                if (status.equals("APPROVED")) {
+                    if (labMice.unavailable.isEmpty()) {
+                        continue;
+                    }
+                    mouseId = labMice.unavailable.random(random);
+                    fromLabId = otherLabId;
+                    toLabId = labId;
+                    requestorId = userId(lab, random.nextInt(spec.usersPerLab()));
+                } else if (status.equals("PENDING")) {
+                    if (labMice.available.isEmpty()) {
+                        continue;
+                    }
+                    mouseId = labMice.available.random(random);
+                } else {
+                    mouseId = labMice.start + random.nextLong(labMice.end - labMice.start);
+                }
+
+                requests.add(nextRequestId++, requestorId, mouseId, fromLabId, toLabId, "Requesting " + sentence(),
+                        status, pastTimestamp(365));
+            }
+        }
+
+        private String requestStatus() {
+            double roll = random.nextDouble();
+            if ((roll -= spec.approvedFraction()) < 0) {
+                return "APPROVED";
+            }
+            if ((roll -= spec.rejectedFraction()) < 0) {
+                return "REJECTED";
+            }
+            if (roll - spec.cancelledFraction() < 0) {
+                return "CANCELLED";
+            }
+            return "PENDING";
+        }
+
+        private String sentence() {
+            StringBuilder words = new StringBuilder();
+            for (int i = random.nextInt(3, 9); i > 0; i--) {
+                if (!words.isEmpty()) {
+                    words.append(' ');
+                }
+                words.append(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+            }
+            return words.toString();
+        }
+
+        private LocalDateTime pastTimestamp(int maxDaysBack) {
+            return spec.referenceDate().atStartOfDay().minusSeconds(random.nextLong((long) maxDaysBack * 86_400));
+        }
+
+        private long userId(int lab, int user) {
+            return firstUserId + (long) lab * spec.usersPerLab() + user;
+        }
+
+        private long protocolId(int lab, int protocol) {
+            return firstProtocolId + (long) lab * spec.protocolsPerLab() + protocol;
+        }
+
+        // Batched INSERT that commits every spec.batchSize() rows
+        private final class Inserter {
+            private final PreparedStatement statement;
+            private int pending;
+            private long rows;
+
+            Inserter(String sql) throws SQLException {
+                statement = connection.prepareStatement(sql);
+            }
+
+            void add(Object... values) throws SQLException {
+                for (int i = 0; i < values.length; i++) {
+                    statement.setObject(i + 1, values[i]);
+                }
+                statement.addBatch();
+                rows++;
+                if (++pending == spec.batchSize()) {
+                    flush();
+                }
+            }
+
+            void flush() throws SQLException {
+                if (pending > 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                    pending = 0;
+                }
+            }
+
+            void close() throws SQLException {
+                flush();
+                statement.close();
+            }
+        }
+    }
+
+    // A lab's mice occupy the id range [start, end); availability is kept for picking request targets
+    private static final class LabMice {
+        private final long start;
+        private long end;
+        private final IdList available = new IdList();
+        private final IdList unavailable = new IdList();
+
+        LabMice(long start) {
+            this.start = start;
+        }
+    }
+
+    // Growable long[] (a lab can have tens of thousands of mice, boxing them all adds up)
+    private static final class IdList {
+        private long[] ids = new long[64];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long random(SplittableRandom random) {
+            return ids[random.nextInt(size)];
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+// File formats supported by bulk import and export
+public enum DataFormat {
+    CSV, NDJSON
+}
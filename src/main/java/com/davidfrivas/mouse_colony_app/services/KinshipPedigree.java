@@ -0,0 +1,362 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+// Pedigree held as primitive parent arrays, ordered so parents always come before their offspring
+// Kinship here is the coefficient of kinship (half the additive relationship); the kinship of a
+// pair is the inbreeding coefficient of their offspring
+public final class KinshipPedigree {
+    // Females per fork-join task in lowestKinshipPairs (each task reuses one set of scratch arrays)
+    private static final int FEMALES_PER_TASK = 32;
+
+    private final long[] ids;
+    // Index of each animal's sire/dam in this pedigree, -1 when unknown
+    private final int[] sire;
+    private final int[] dam;
+    private final double[] inbreeding;
+    // Mendelian sampling variance of each animal (the D in A = TDT')
+    private final double[] variance;
+    private final Map<Long, Integer> indexById;
+
+    private KinshipPedigree(long[] ids, int[] sire, int[] dam, double[] inbreeding) {
+        this.ids = ids;
+        this.sire = sire;
+        this.dam = dam;
+        this.inbreeding = inbreeding != null ? inbreeding : computeInbreeding(sire, dam);
+        this.variance = new double[ids.length];
+        this.indexById = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            variance[i] = 0.5 - 0.25 * (inbreedingOrUnknown(sire[i]) + inbreedingOrUnknown(dam[i]));
+            indexById.put(ids[i], i);
+        }
+    }
+
+    // Build from parallel id arrays in any order; a parent id of 0 (or one not in ids) is unknown
+    public static KinshipPedigree of(long[] mouseIds, long[] fatherIds, long[] motherIds) {
+        int n = mouseIds.length;
+        Map<Long, Integer> position = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            position.put(mouseIds[i], i);
+        }
+        int[] sireAt = new int[n];
+        int[] damAt = new int[n];
+        for (int i = 0; i < n; i++) {
+            sireAt[i] = position.getOrDefault(fatherIds[i], -1);
+            damAt[i] = position.getOrDefault(motherIds[i], -1);
+        }
+
+        // Parents-first order by iterative depth-first post-order
+        int[] order = new int[n];
+        int ordered = 0;
+        byte[] state = new byte[n]; // 0 unvisited, 1 on the stack, 2 placed
+        int[] stack = new int[n];
+        for (int root = 0; root < n; root++) {
+            if (state[root] != 0) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = root;
+            state[root] = 1;
+            while (top > 0) {
+                int current = stack[top - 1];
+                int next = -1;
+                if (sireAt[current] >= 0 && state[sireAt[current]] != 2) {
+                    next = sireAt[current];
+                } else if (damAt[current] >= 0 && state[damAt[current]] != 2) {
+                    next = damAt[current];
+                }
+                if (next < 0) {
+                    top--;
+                    state[current] = 2;
+                    order[ordered++] = current;
+                } else if (state[next] == 1) {
+                    throw new IllegalStateException("Pedigree contains a cycle at mouse " + mouseIds[next]);
+                } else {
+                    state[next] = 1;
+                    stack[top++] = next;
+                }
+            }
+        }
+
+        int[] newIndex = new int[n];
+        for (int i = 0; i < n; i++) {
+            newIndex[order[i]] = i;
+        }
+        long[] ids = new long[n];
+        int[] sire = new int[n];
+        int[] dam = new int[n];
+        for (int i = 0; i < n; i++) {
+            int old = order[i];
+            ids[i] = mouseIds[old];
+            sire[i] = sireAt[old] < 0 ? -1 : newIndex[sireAt[old]];
+            dam[i] = damAt[old] < 0 ? -1 : newIndex[damAt[old]];
+        }
+        return new KinshipPedigree(ids, sire, dam, null);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long idAt(int index) {
+        return ids[index];
+    }
+
+    // Index of a mouse, or -1 if it is not in the pedigree
+    public int indexOf(long mouseId) {
+        return indexById.getOrDefault(mouseId, -1);
+    }
+
+    public double inbreeding(int index) {
+        return inbreeding[index];
+    }
+
+    // A candidate pair and the kinship between them (indexes into this pedigree)
+    public record Pairing(int female, int male, double kinship) {
+    }
+
+    // Up to limit disjoint female/male pairs with the lowest kinship, chosen greedily
+    // Only each female's malesPerFemale least related males are considered for her
+    public List<Pairing> lowestKinshipPairs(int[] females, int[] males, int limit, int malesPerFemale) {
+        if (females.length == 0 || males.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        // Work on the ancestry of this group only, so each column costs its size, not the whole strain's
+        int[] members = new int[females.length + males.length];
+        System.arraycopy(females, 0, members, 0, females.length);
+        System.arraycopy(males, 0, members, females.length, males.length);
+        int[] toSub = new int[size()];
+        KinshipPedigree sub = ancestry(members, toSub);
+        int[] subFemales = Arrays.stream(females).map(i -> toSub[i]).toArray();
+        int[] subMales = Arrays.stream(males).map(i -> toSub[i]).toArray();
+        int keep = Math.min(malesPerFemale, males.length);
+
+        // One relationship column per female, computed in parallel chunks
+        int tasks = (females.length + FEMALES_PER_TASK - 1) / FEMALES_PER_TASK;
+        List<Pairing> candidates = IntStream.range(0, tasks).parallel()
+                .mapToObj(task -> {
+                    double[] scratch = new double[sub.size()];
+                    double[] column = new double[sub.size()];
+                    List<Pairing> best = new ArrayList<>();
+                    int end = Math.min(females.length, (task + 1) * FEMALES_PER_TASK);
+                    for (int f = task * FEMALES_PER_TASK; f < end; f++) {
+                        sub.relationshipColumn(subFemales[f], scratch, column);
+                        best.addAll(leastRelated(females[f], subMales, males, column, keep));
+                    }
+                    return best;
+                })
+                .flatMap(List::stream)
+                .sorted(Comparator.comparingDouble(Pairing::kinship)
+                        .thenComparingInt(Pairing::female)
+                        .thenComparingInt(Pairing::male))
+                .toList();
+
+        Set<Integer> usedFemales = new HashSet<>();
+        Set<Integer> usedMales = new HashSet<>();
+        List<Pairing> pairs = new ArrayList<>(limit);
+        for (Pairing candidate : candidates) {
+            if (pairs.size() == limit) {
+                break;
+            }
+            if (!usedFemales.contains(candidate.female()) && !usedMales.contains(candidate.male())) {
+                usedFemales.add(candidate.female());
+                usedMales.add(candidate.male());
+                pairs.add(candidate);
+            }
+        }
+        return pairs;
+    }
+
+    // The keep males least related to one female (column holds her additive relationships)
+    private static List<Pairing> leastRelated(int female, int[] subMales, int[] males, double[] column, int keep) {
+        // Bounded insertion into arrays sorted by kinship, keep is small
+        double[] kinship = new double[keep];
+        int[] male = new int[keep];
+        int size = 0;
+        for (int m = 0; m < subMales.length; m++) {
+            double k = column[subMales[m]] / 2;
+            if (size == keep && k >= kinship[size - 1]) {
+                continue;
+            }
+            int at = size == keep ? size - 1 : size++;
+            while (at > 0 && kinship[at - 1] > k) {
+                kinship[at] = kinship[at - 1];
+                male[at] = male[at - 1];
+                at--;
+            }
+            kinship[at] = k;
+            male[at] = males[m];
+        }
+        List<Pairing> best = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            best.add(new Pairing(female, male[i], kinship[i]));
+        }
+        return best;
+    }
+
+    // Column of the additive relationship matrix for one animal: column = T D T' e (Colleau's indirect method)
+    // O(size) per column, nothing quadratic is stored
+    void relationshipColumn(int animal, double[] scratch, double[] column) {
+        // scratch = T' e, only the animal and its ancestors (all at lower indexes) are non-zero
+        Arrays.fill(scratch, 0, animal + 1, 0);
+        scratch[animal] = 1;
+        for (int i = animal; i >= 0; i--) {
+            double w = scratch[i];
+            if (w != 0) {
+                if (sire[i] >= 0) {
+                    scratch[sire[i]] += 0.5 * w;
+                }
+                if (dam[i] >= 0) {
+                    scratch[dam[i]] += 0.5 * w;
+                }
+            }
+        }
+        // column = T (D scratch), walked parents first
+        for (int i = 0; i < column.length; i++) {
+            double fromParents = 0;
+            if (sire[i] >= 0) {
+                fromParents += column[sire[i]];
+            }
+            if (dam[i] >= 0) {
+                fromParents += column[dam[i]];
+            }
+            column[i] = (i <= animal ? variance[i] * scratch[i] : 0) + 0.5 * fromParents;
+        }
+    }
+
+    // The members and all their ancestors, keeping parents-first order (toSub maps old to new indexes)
+    private KinshipPedigree ancestry(int[] members, int[] toSub) {
+        boolean[] keep = new boolean[size()];
+        for (int member : members) {
+            keep[member] = true;
+        }
+        int count = 0;
+        for (int i = size() - 1; i >= 0; i--) {
+            if (keep[i]) {
+                count++;
+                if (sire[i] >= 0) {
+                    keep[sire[i]] = true;
+                }
+                if (dam[i] >= 0) {
+                    keep[dam[i]] = true;
+                }
+            }
+        }
+
+        long[] subIds = new long[count];
+        int[] subSire = new int[count];
+        int[] subDam = new int[count];
+        double[] subInbreeding = new double[count];
+        int next = 0;
+        for (int i = 0; i < size(); i++) {
+            if (keep[i]) {
+                toSub[i] = next;
+                subIds[next] = ids[i];
+                subSire[next] = sire[i] < 0 ? -1 : toSub[sire[i]];
+                subDam[next] = dam[i] < 0 ? -1 : toSub[dam[i]];
+                subInbreeding[next] = inbreeding[i];
+                next++;
+            }
+        }
+        return new KinshipPedigree(subIds, subSire, subDam, subInbreeding);
+    }
+
+    private double inbreedingOrUnknown(int parent) {
+        // An unknown parent counts as F = -1, which gives the founder/one-parent variances (1 and 0.75 - F/4)
+        return parent < 0 ? -1 : inbreeding[parent];
+    }
+
+    // Inbreeding coefficients by Meuwissen & Luo (1992): each animal's diagonal of A from its ancestors only
+    // Sequential, each animal needs its ancestors' values first
+    private static double[] computeInbreeding(int[] sire, int[] dam) {
+        int n = sire.length;
+        double[] inbreeding = new double[n];
+        double[] variance = new double[n];
+        double[] contribution = new double[n];
+        boolean[] queued = new boolean[n];
+        int[] heap = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            double fs = sire[i] < 0 ? -1 : inbreeding[sire[i]];
+            double fd = dam[i] < 0 ? -1 : inbreeding[dam[i]];
+            variance[i] = 0.5 - 0.25 * (fs + fd);
+
+            if (sire[i] < 0 || dam[i] < 0) {
+                continue; // Not inbred with a parent unknown
+            }
+            if (i > 0 && sire[i] == sire[i - 1] && dam[i] == dam[i - 1]) {
+                inbreeding[i] = inbreeding[i - 1]; // Full sibling of the previous animal
+                continue;
+            }
+
+            // Walk the ancestors youngest first, passing half of each one's contribution to its parents
+            double diagonal = 0;
+            int heapSize = 0;
+            contribution[i] = 1;
+            heap[heapSize++] = i;
+            queued[i] = true;
+            while (heapSize > 0) {
+                int j = heap[0];
+                heap[0] = heap[--heapSize];
+                siftDown(heap, heapSize);
+                queued[j] = false;
+
+                double c = contribution[j];
+                heapSize = passToParent(sire[j], c, contribution, queued, heap, heapSize);
+                heapSize = passToParent(dam[j], c, contribution, queued, heap, heapSize);
+                diagonal += c * c * variance[j];
+                contribution[j] = 0;
+            }
+            inbreeding[i] = diagonal - 1;
+        }
+        return inbreeding;
+    }
+
+    private static int passToParent(int parent, double c, double[] contribution, boolean[] queued, int[] heap, int heapSize) {
+        if (parent < 0) {
+            return heapSize;
+        }
+        contribution[parent] += 0.5 * c;
+        if (!queued[parent]) {
+            queued[parent] = true;
+            heap[heapSize] = parent;
+            siftUp(heap, heapSize);
+            heapSize++;
+        }
+        return heapSize;
+    }
+
+    // Max-heap of indexes (youngest ancestor first)
+    private static void siftUp(int[] heap, int at) {
+        while (at > 0) {
+            int parent = (at - 1) / 2;
+            if (heap[parent] >= heap[at]) {
+                return;
+            }
+            int tmp = heap[parent];
+            heap[parent] = heap[at];
+            heap[at] = tmp;
+            at = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size) {
+        int at = 0;
+        while (true) {
+            int left = 2 * at + 1;
+            if (left >= size) {
+                return;
+            }
+            int larger = left + 1 < size && heap[left + 1] > heap[left] ? left + 1 : left;
+            if (heap[at] >= heap[larger]) {
+                return;
+            }
+            int tmp = heap[larger];
+            heap[larger] = heap[at];
+            heap[at] = tmp;
+            at = larger;
+        }
+    }
+}
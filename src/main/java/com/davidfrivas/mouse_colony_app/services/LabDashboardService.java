@@ -0,0 +1,191 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.config.LabDashboardProperties;
+import com.davidfrivas.mouse_colony_app.dtos.*;
+import com.davidfrivas.mouse_colony_app.dtos.LabDashboard.Section;
+import com.davidfrivas.mouse_colony_app.dtos.LabDashboard.State;
+import com.davidfrivas.mouse_colony_app.entities.MouseRequest.Status;
+import com.davidfrivas.mouse_colony_app.repositories.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.*;
+
+// Lab landing page: the six sections are independent indexed queries, so they run concurrently on
+// virtual threads, each in its own read-only transaction and therefore on its own pooled connection
+// The page waits at most sectionTimeout; anything slower is returned as TIMED_OUT instead of holding it up
+// Each section's transaction carries the remaining deadline as its timeout, which Hibernate and JdbcTemplate
+// apply as the JDBC query timeout, so the driver cancels a slow statement and its connection goes back to the pool
+// At most maxConcurrentSections sections hold a connection at once, across all dashboards
+@Slf4j
+@Service
+public class LabDashboardService {
+    private final LabRepository labRepository;
+    private final MouseRepository mouseRepository;
+    private final ResearchProtocolRepository protocolRepository;
+    private final LitterRepository litterRepository;
+    private final LogEntryRepository logEntryRepository;
+    private final MouseRequestService requestService;
+    private final LabDashboardProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore sectionPermits;
+
+    public LabDashboardService(LabRepository labRepository, MouseRepository mouseRepository,
+                               ResearchProtocolRepository protocolRepository, LitterRepository litterRepository,
+                               LogEntryRepository logEntryRepository, MouseRequestService requestService,
+                               LabDashboardProperties properties, MeterRegistry meterRegistry,
+                               PlatformTransactionManager transactionManager) {
+        this.labRepository = labRepository;
+        this.mouseRepository = mouseRepository;
+        this.protocolRepository = protocolRepository;
+        this.litterRepository = litterRepository;
+        this.logEntryRepository = logEntryRepository;
+        this.requestService = requestService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.transactionManager = transactionManager;
+        this.sectionPermits = new Semaphore(properties.maxConcurrentSections(), true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Load a lab's dashboard
+    public LabDashboard getDashboard(Long labId) {
+        if (!labRepository.existsById(labId)) {
+            throw new RuntimeException("Lab not found with id: " + labId);
+        }
+
+        int items = properties.itemsPerSection();
+        long started = System.nanoTime();
+        long deadline = started + properties.sectionTimeout().toNanos();
+
+        // Fork everything first, then collect against one shared deadline
+        Branch<List<MouseSummary>> availableMice = fork("available-mice", deadline, () ->
+                mouseRepository.findAvailableByLabId(labId, PageRequest.of(0, items)).map(MouseSummary::from).getContent());
+        Branch<List<ProtocolSummary>> activeProtocols = fork("active-protocols", deadline, () ->
+                protocolRepository.findActiveByLab(labId, LocalDate.now(), Limit.of(items)).stream().map(ProtocolSummary::from).toList());
+        Branch<List<LitterSummary>> recentLitters = fork("recent-litters", deadline, () ->
+                litterRepository.findRecentByLab(labId, Limit.of(items)).stream().map(LitterSummary::from).toList());
+        Branch<MouseRequestPage> pendingInbound = fork("pending-inbound", deadline, () ->
+                requestService.getInbox(labId, Status.PENDING, null, items));
+        Branch<MouseRequestPage> pendingOutbound = fork("pending-outbound", deadline, () ->
+                requestService.getOutbox(labId, Status.PENDING, null, items));
+        Branch<List<LogEntrySummary>> recentLogEntries = fork("recent-log-entries", deadline, () ->
+                logEntryRepository.findRecentSummariesByLab(labId, Limit.of(items)));
+
+        LabDashboard dashboard = new LabDashboard(
+                labId,
+                availableMice.join(deadline),
+                activeProtocols.join(deadline),
+                recentLitters.join(deadline),
+                pendingInbound.join(deadline),
+                pendingOutbound.join(deadline),
+                recentLogEntries.join(deadline)
+        );
+
+        Timer.builder("lab.dashboard")
+                .description("Lab dashboard assembly, including waiting for the slowest section")
+                .tag("complete", String.valueOf(dashboard.complete()))
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return dashboard;
+    }
+
+    private <T> Branch<T> fork(String section, long deadline, Callable<T> query) {
+        long started = System.nanoTime();
+        Future<T> future = executor.submit(() -> {
+            String outcome = "success";
+            try {
+                return runWithin(deadline, query);
+            } catch (Exception e) {
+                outcome = isTimeout(e) ? "timeout" : "error";
+                throw e;
+            } finally {
+                // Recorded even when the page stopped waiting, so slow sections stay visible
+                Timer.builder("lab.dashboard.section")
+                        .tag("section", section)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        });
+        return new Branch<>(section, future, started);
+    }
+
+    // Wait for a connection permit, then run the query in a read-only transaction that times out at the deadline
+    private <T> T runWithin(long deadline, Callable<T> query) throws Exception {
+        if (!sectionPermits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            throw new TimeoutException("No dashboard connection permit before the deadline");
+        }
+        try {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException("Dashboard deadline passed");
+            }
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            // JDBC query timeouts are whole seconds, so a statement can outlive the page by up to a second
+            transaction.setTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + 999_999_999)));
+            return transaction.execute(status -> {
+                try {
+                    return query.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } finally {
+            sectionPermits.release();
+        }
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        return e instanceof TimeoutException || e instanceof QueryTimeoutException || e instanceof TransactionTimedOutException;
+    }
+
+    private record Branch<T>(String section, Future<T> future, long started) {
+        Section<T> join(long deadline) {
+            try {
+                T value = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                return Section.ok(value, elapsedMillis());
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("Dashboard section {} timed out", section);
+                return Section.missing(State.TIMED_OUT, elapsedMillis());
+            } catch (ExecutionException e) {
+                if (isTimeout(e.getCause())) {
+                    log.warn("Dashboard section {} timed out", section);
+                    return Section.missing(State.TIMED_OUT, elapsedMillis());
+                }
+                log.warn("Dashboard section {} failed", section, e.getCause());
+                return Section.missing(State.FAILED, elapsedMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                return Section.missing(State.FAILED, elapsedMillis());
+            }
+        }
+
+        private long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        }
+    }
+}
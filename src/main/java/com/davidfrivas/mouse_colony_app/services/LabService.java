@@ -1,6 +1,7 @@
 package com.davidfrivas.mouse_colony_app.services;
 
 import com.davidfrivas.mouse_colony_app.entities.Lab;
+import com.davidfrivas.mouse_colony_app.entities.LabStats;
 import com.davidfrivas.mouse_colony_app.repositories.LabRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -11,6 +12,8 @@ import java.util.List;
 @AllArgsConstructor
 public class LabService {
     private final LabRepository labRepository;
+    private final ReferenceCacheService referenceCacheService;
+    private final LabStatsService labStatsService;
 
     // Create a new lab
     public Lab createLab(Lab lab) {
@@ -46,26 +49,29 @@ public class LabService {
         existingLab.setAddress(updatedLab.getAddress());
         existingLab.setInstitution(updatedLab.getInstitution());
 
-        return labRepository.save(existingLab); // Save existing lab
+        Lab saved = labRepository.save(existingLab); // Save existing lab
+        referenceCacheService.evictLab(id); // Next read reloads the lab from the DB
+        return saved;
     }
 
-    // Delete lab
+    // Delete lab (emptiness comes from the lab_stats counters, no collections are loaded)
     public void deleteLab(Long id) {
         Lab lab = findById(id);
+        LabStats stats = labStatsService.getStats(id);
 
-        if (!lab.getUsers().isEmpty()) {
+        if (stats.getUserCount() > 0) {
             throw new IllegalStateException("Cannot delete lab with active users");
         }
 
-        if (!lab.getProtocols().isEmpty()) {
+        if (stats.getProtocolCount() > 0) {
             throw new IllegalStateException("Cannot delete lab with active protocols");
         }
 
-        if (!lab.getMice().isEmpty()) {
+        if (stats.getMouseCount() > 0) {
             throw new IllegalStateException("Cannot delete lab with mice");
         }
 
-        if (!lab.getLitters().isEmpty()) {
+        if (stats.getLitterCount() > 0) {
             throw new IllegalStateException("Cannot delete lab with litters");
         }
 
@@ -0,0 +1,75 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.config.LabStatsProperties;
+import com.davidfrivas.mouse_colony_app.entities.LabStats;
+import com.davidfrivas.mouse_colony_app.entities.LabStats.LabCounts;
+import com.davidfrivas.mouse_colony_app.repositories.LabStatsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// O(1) per-lab counts from lab_stats, plus the job that finds and repairs counter drift
+@Slf4j
+@AllArgsConstructor
+@Service
+public class LabStatsService {
+    private final LabStatsRepository labStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LabStatsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // Get a lab's counters
+    public LabStats getStats(Long labId) {
+        return labStatsRepository.findById(labId).orElseThrow(() -> new RuntimeException("Lab not found with id: " + labId));
+    }
+
+    // Nightly drift check, schedule set by app.lab-stats.reconcile-cron
+    @Scheduled(cron = "${app.lab-stats.reconcile-cron:0 0 3 * * *}")
+    public void reconcileScheduled() {
+        if (!properties.reconcileEnabled()) {
+            return;
+        }
+        int repaired = reconcile();
+        if (repaired > 0) {
+            log.warn("Repaired lab_stats drift for {} labs", repaired);
+        }
+    }
+
+    // Recount every lab and overwrite counters that drifted; returns how many labs were repaired
+    public int reconcile() {
+        int repaired = 0;
+        for (Long labId : labStatsRepository.findAllLabIds()) {
+            Boolean drifted = transactionTemplate.execute(status -> reconcileLab(labId));
+            if (Boolean.TRUE.equals(drifted)) {
+                repaired++;
+            }
+        }
+        meterRegistry.counter("lab.stats.repaired").increment(repaired);
+        return repaired;
+    }
+
+    // One lab per transaction. The counter row is locked first, so writers to this lab queue behind us:
+    // every change committed before the lock is in the recount, and every later one applies its
+    // trigger delta on top of the repaired value
+    private boolean reconcileLab(Long labId) {
+        labStatsRepository.createIfMissing(labId);
+        LabStats stats = labStatsRepository.lockByLabId(labId).orElseThrow();
+        LabCounts actual = labStatsRepository.countActual(labId);
+        if (stats.matches(actual)) {
+            return false;
+        }
+
+        log.warn("lab_stats drift for lab {}: mice {} -> {}, available {} -> {}, pending in {} -> {}, pending out {} -> {}",
+                labId, stats.getMouseCount(), actual.getMouseCount(),
+                stats.getAvailableMouseCount(), actual.getAvailableMouseCount(),
+                stats.getPendingInboundCount(), actual.getPendingInboundCount(),
+                stats.getPendingOutboundCount(), actual.getPendingOutboundCount());
+        labStatsRepository.overwrite(labId, actual.getUserCount(), actual.getProtocolCount(), actual.getMouseCount(),
+                actual.getAvailableMouseCount(), actual.getLitterCount(),
+                actual.getPendingInboundCount(), actual.getPendingOutboundCount());
+        return true;
+    }
+}
@@ -1,5 +1,7 @@
 package com.davidfrivas.mouse_colony_app.services;
 
+import com.davidfrivas.mouse_colony_app.dtos.BreedingPerformance;
+import com.davidfrivas.mouse_colony_app.dtos.LitterSummary;
 import com.davidfrivas.mouse_colony_app.entities.Lab;
 import com.davidfrivas.mouse_colony_app.entities.Litter;
 import com.davidfrivas.mouse_colony_app.entities.Mouse;
@@ -95,34 +97,45 @@ public class LitterService {
 
     // Get litters by lab
     public List<Litter> getLittersByLab(Long labId) {
-        return findAll().stream()
-                .filter(l -> l.getLab().getLabId().equals(labId))
+        return litterRepository.findByLabId(labId);
+    }
+
+    // Get litters by lab as list-view rows (parents/lab/protocol come from the "Litter.summary" graph)
+    public List<LitterSummary> getLitterSummariesByLab(Long labId) {
+        return getLittersByLab(labId).stream()
+                .map(LitterSummary::from)
                 .toList();
     }
 
     // Get litters by protocol
     public List<Litter> getLittersByProtocol(Long protocolId) {
-        return findAll().stream()
-                .filter(l -> l.getProtocol().getProtocolId().equals(protocolId))
-                .toList();
+        return litterRepository.findByProtocolId(protocolId);
     }
 
     // Get litters by mother
     public List<Litter> getLittersByMother(Long motherId) {
-        return findAll().stream()
-                .filter(l -> l.getMother().getMouseId().equals(motherId))
-                .toList();
+        return litterRepository.findByMotherId(motherId);
     }
 
     public List<Litter> getLittersByFather(Long fatherId) {
-        return findAll().stream()
-                .filter(l -> l.getFather().getMouseId().equals(fatherId))
-                .toList();
+        return litterRepository.findByFatherId(fatherId);
     }
 
     public List<Litter> getLittersByBreedingPair(Long motherId, Long fatherId) {
-        return findAll().stream()
-                .filter(l -> l.getMother().getMouseId().equals(motherId) && l.getFather().getMouseId().equals(fatherId))
+        return litterRepository.findByBreedingPair(motherId, fatherId);
+    }
+
+    // Breeding performance of every female in a lab (litters, pups per litter, inter-litter interval)
+    public List<BreedingPerformance> getFemaleBreedingPerformance(Long labId) {
+        return litterRepository.findFemaleBreedingPerformance(labId).stream()
+                .map(BreedingPerformance::from)
+                .toList();
+    }
+
+    // Breeding performance of every breeding pair in a lab
+    public List<BreedingPerformance> getPairBreedingPerformance(Long labId) {
+        return litterRepository.findPairBreedingPerformance(labId).stream()
+                .map(BreedingPerformance::from)
                 .toList();
     }
 
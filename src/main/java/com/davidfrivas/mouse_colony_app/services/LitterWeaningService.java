@@ -0,0 +1,158 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.dtos.WeaningReport;
+import com.davidfrivas.mouse_colony_app.dtos.WeaningReport.WeanedLitter;
+import com.davidfrivas.mouse_colony_app.dtos.WeaningRequest;
+import com.davidfrivas.mouse_colony_app.entities.Litter;
+import com.davidfrivas.mouse_colony_app.entities.Mouse;
+import com.davidfrivas.mouse_colony_app.entities.ResearchProtocol;
+import com.davidfrivas.mouse_colony_app.entities.User;
+import com.davidfrivas.mouse_colony_app.events.MouseChangedEvent;
+import com.davidfrivas.mouse_colony_app.repositories.LitterRepository;
+import com.davidfrivas.mouse_colony_app.repositories.MouseRepository;
+import com.davidfrivas.mouse_colony_app.repositories.ResearchProtocolRepository;
+import com.davidfrivas.mouse_colony_app.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Creates a litter's pups in one transaction: references are resolved once per call and the
+// mice go out as batched INSERTs, instead of createMouseFromLitter's lookups and saves per pup
+@AllArgsConstructor
+@Service
+public class LitterWeaningService {
+    // Largest number of pups accepted in one call (bounds the persistence context)
+    public static final int MAX_PUPS = 5000;
+
+    private final LitterRepository litterRepository;
+    private final MouseRepository mouseRepository;
+    private final ResearchProtocolRepository protocolRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Wean one litter
+    public WeaningReport weanLitter(WeaningRequest request) {
+        return weanLitters(List.of(request));
+    }
+
+    // Wean many litters at once (cage-change day); all pups are created or none are
+    public WeaningReport weanLitters(List<WeaningRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one litter is required");
+        }
+        int pups = 0;
+        for (WeaningRequest request : requests) {
+            if (request.litterId() == null) {
+                throw new IllegalArgumentException("Litter id is required");
+            }
+            if (request.userId() == null) {
+                throw new IllegalArgumentException("User id is required for litter " + request.litterId());
+            }
+            if (request.pups() == null || request.pups().isEmpty()) {
+                throw new IllegalArgumentException("At least one pup is required for litter " + request.litterId());
+            }
+            pups += request.pups().size();
+        }
+        if (pups > MAX_PUPS) {
+            throw new IllegalArgumentException("At most " + MAX_PUPS + " pups can be weaned at once");
+        }
+        if (requests.stream().map(WeaningRequest::litterId).distinct().count() < requests.size()) {
+            throw new IllegalArgumentException("Each litter can appear only once per call");
+        }
+
+        return transactionTemplate.execute(status -> weanOnce(requests));
+    }
+
+    private WeaningReport weanOnce(List<WeaningRequest> requests) {
+        // One query per entity type for the whole call; the litter graph brings lab, protocol and parents
+        Map<Long, Litter> litters = litterRepository.findAllWithDetails(ids(requests, WeaningRequest::litterId)).stream()
+                .collect(Collectors.toMap(Litter::getLitterId, Function.identity()));
+        Map<Long, User> users = byId(userRepository.findAllById(ids(requests, WeaningRequest::userId)), User::getUserId);
+        Set<Long> protocolIds = ids(requests, WeaningRequest::protocolId);
+        Map<Long, ResearchProtocol> protocols = protocolIds.isEmpty() ? Map.of()
+                : byId(protocolRepository.findAllById(protocolIds), ResearchProtocol::getProtocolId);
+
+        List<Mouse> mice = new ArrayList<>();
+        List<List<Mouse>> miceByRequest = new ArrayList<>(requests.size());
+        for (WeaningRequest request : requests) {
+            Litter litter = litters.get(request.litterId());
+            if (litter == null) {
+                throw new IllegalArgumentException("Litter not found with id: " + request.litterId());
+            }
+            User user = users.get(request.userId());
+            if (user == null) {
+                throw new IllegalArgumentException("User not found with id: " + request.userId());
+            }
+            ResearchProtocol protocol = litter.getProtocol();
+            if (request.protocolId() != null) {
+                protocol = protocols.get(request.protocolId());
+                if (protocol == null) {
+                    throw new IllegalArgumentException("Protocol not found with id: " + request.protocolId());
+                }
+            }
+
+            List<Mouse> pups = new ArrayList<>(request.pups().size());
+            for (WeaningRequest.Pup pup : request.pups()) {
+                pups.add(toMouse(pup, litter, protocol, user));
+            }
+            mice.addAll(pups);
+            miceByRequest.add(pups);
+        }
+
+        // Pooled ids are assigned on persist, the INSERTs go out in hibernate.jdbc.batch_size batches
+        mouseRepository.saveAll(mice);
+        entityManager.flush();
+        eventPublisher.publishEvent(new MouseChangedEvent(mice.stream().map(Mouse::getMouseId).toList()));
+
+        List<WeanedLitter> weaned = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            weaned.add(new WeanedLitter(requests.get(i).litterId(),
+                    miceByRequest.get(i).stream().map(Mouse::getMouseId).toList()));
+        }
+        return WeaningReport.of(weaned);
+    }
+
+    // Same checks as MouseService.createMouse; everything else is inherited from the litter
+    private static Mouse toMouse(WeaningRequest.Pup pup, Litter litter, ResearchProtocol protocol, User user) {
+        if (pup.name() == null || pup.name().trim().isEmpty()) {
+            throw new IllegalArgumentException("Mouse name cannot be empty (litter " + litter.getLitterId() + ")");
+        }
+        if (pup.genotype() == null) {
+            throw new IllegalArgumentException("Genotype is required (litter " + litter.getLitterId() + ", pup " + pup.name() + ")");
+        }
+
+        return Mouse.builder()
+                .name(pup.name())
+                .sex(pup.sex())
+                .genotype(pup.genotype())
+                .strain(pup.strain() != null ? pup.strain() : litter.getMother().getStrain())
+                .dateOfBirth(litter.getDateOfBirth())
+                .availability(pup.availability() == null ? Boolean.TRUE : pup.availability())
+                .notes(pup.notes())
+                .lab(litter.getLab())
+                .protocol(protocol)
+                .user(user)
+                .mother(litter.getMother())
+                .father(litter.getFather())
+                .litter(litter)
+                .build();
+    }
+
+    private static Set<Long> ids(List<WeaningRequest> requests, Function<WeaningRequest, Long> getter) {
+        return requests.stream().map(getter).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static <T> Map<Long, T> byId(Iterable<T> entities, Function<T, Long> idGetter) {
+        Map<Long, T> byId = new HashMap<>();
+        entities.forEach(e -> byId.put(idGetter.apply(e), e));
+        return byId;
+    }
+}
@@ -0,0 +1,76 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.config.LogArchiveProperties;
+import com.davidfrivas.mouse_colony_app.entities.LogEntryArchive;
+import com.davidfrivas.mouse_colony_app.repositories.LogEntryArchiveRepository;
+import com.davidfrivas.mouse_colony_app.repositories.LogEntryRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Moves log entries past the retention horizon into the compressed archive tables
+@Slf4j
+@AllArgsConstructor
+@Service
+public class LogArchiveService {
+    private final LogEntryRepository logEntryRepository;
+    private final LogEntryArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LogArchiveProperties properties;
+
+    // Nightly job, schedule set by app.log-archive.cron
+    @Scheduled(cron = "${app.log-archive.cron:0 30 2 * * *}")
+    public void archiveExpiredEntries() {
+        if (!properties.enabled()) {
+            return;
+        }
+        long archived = archiveEntriesOlderThan(LocalDateTime.now().minus(properties.retention()));
+        log.info("Archived {} log entries older than {}", archived, properties.retention());
+    }
+
+    // Archive everything created before the cutoff, one batch per transaction so locks stay short
+    public long archiveEntriesOlderThan(LocalDateTime cutoff) {
+        long archived = 0;
+        int moved;
+        do {
+            Integer count = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            moved = count == null ? 0 : count;
+            archived += moved;
+        } while (moved == properties.batchSize());
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> logIds = logEntryRepository.findIdsCreatedBefore(cutoff, Limit.of(properties.batchSize()));
+        if (logIds.isEmpty()) {
+            return 0;
+        }
+
+        // Copy entries and their mouse links, then delete the live rows (junction rows cascade)
+        archiveRepository.copyEntries(logIds);
+        archiveRepository.copyMouseLinks(logIds);
+        logEntryRepository.deleteByLogIds(logIds);
+        return logIds.size();
+    }
+
+    // Get archived log entries of a lab in a time window (on-demand, never touched by hot queries)
+    public Page<LogEntryArchive> getArchivedLogEntriesByLab(Long labId, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start of range must be before end of range");
+        }
+        return archiveRepository.findByLabBetween(labId, from, to, pageable);
+    }
+
+    // Find an archived log entry by its original ID
+    public LogEntryArchive findArchivedById(Long logId) {
+        return archiveRepository.findById(logId).orElseThrow(() -> new RuntimeException("Archived log entry not found with id " + logId));
+    }
+}
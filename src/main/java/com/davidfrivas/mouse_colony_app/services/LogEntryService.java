@@ -8,20 +8,29 @@ import com.davidfrivas.mouse_colony_app.repositories.LabRepository;
 import com.davidfrivas.mouse_colony_app.repositories.LogEntryRepository;
 import com.davidfrivas.mouse_colony_app.repositories.MouseRepository;
 import com.davidfrivas.mouse_colony_app.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 
 @AllArgsConstructor
 @Service
 public class LogEntryService {
+    // InnoDB's default innodb_ft_min_token_size, shorter words aren't in the full-text index
+    private static final int MIN_FULL_TEXT_TERM_LENGTH = 3;
+
     private final LogEntryRepository logEntryRepository;
     private final UserRepository userRepository;
     private final LabRepository labRepository;
     public final MouseRepository mouseRepository;
+    private final EntityManager entityManager;
 
     // Create a new log entry
     public LogEntry createLogEntry(LogEntry logEntry, Long userId, Long labId) {
@@ -44,18 +53,16 @@ public class LogEntryService {
     // Create log entry with mice
     @Transactional
     public LogEntry createLogEntryWithMice(LogEntry logEntry, Long userId, Long labId, Set<Long> mouseIds) {
-        // First create a basic log entry
-        logEntry = createLogEntry(logEntry, userId, labId);
-
-        // Add mice if provided
+        // Add mice if provided, checking them all with one query before anything is written
         if (mouseIds != null && !mouseIds.isEmpty()) {
+            requireMice(mouseIds);
             for (Long mouseId : mouseIds) {
-                Mouse mouse = mouseRepository.findById(mouseId).orElseThrow(() -> new RuntimeException("Mouse not found with id " + mouseId));
-                logEntry.getMice().add(mouse);
+                logEntry.getMice().add(entityManager.getReference(Mouse.class, mouseId));
             }
-            logEntry = logEntryRepository.save(logEntry);
         }
-        return logEntry;
+
+        // One INSERT for the entry, the mouse_log_entry rows go out as a JDBC batch at flush
+        return createLogEntry(logEntry, userId, labId);
     }
 
     // Find log entry by ID
@@ -94,6 +101,48 @@ public class LogEntryService {
         return logEntryRepository.save(logEntry);
     }
 
+    // Add many mice to a log entry in one statement
+    @Transactional
+    public LogEntry addMiceToLog(Long logId, Set<Long> mouseIds) {
+        if (!existsById(logId)) {
+            throw new RuntimeException("Log entry not found with id " + logId);
+        }
+        requireMice(mouseIds);
+
+        logEntryRepository.addMouseLinks(logId, mouseIds);
+        return findById(logId);
+    }
+
+    // Remove many mice from a log entry in one statement (ids not linked to the entry are ignored)
+    @Transactional
+    public LogEntry removeMiceFromLog(Long logId, Set<Long> mouseIds) {
+        if (!existsById(logId)) {
+            throw new RuntimeException("Log entry not found with id " + logId);
+        }
+        requireMouseIds(mouseIds);
+
+        logEntryRepository.removeMouseLinks(logId, mouseIds);
+        return findById(logId);
+    }
+
+    // Both batch endpoints reject an empty id set
+    private static void requireMouseIds(Set<Long> mouseIds) {
+        if (mouseIds == null || mouseIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one mouse id is required");
+        }
+    }
+
+    // Fail fast, listing every id that doesn't exist
+    private void requireMice(Set<Long> mouseIds) {
+        requireMouseIds(mouseIds);
+
+        Set<Long> missing = new TreeSet<>(mouseIds);
+        mouseRepository.findExistingIds(mouseIds).forEach(missing::remove);
+        if (!missing.isEmpty()) {
+            throw new RuntimeException("Mice not found with ids " + missing);
+        }
+    }
+
     // Delete log entry
     public void deleteLogEntry(Long id) {
         LogEntry logEntry = findById(id);
@@ -126,26 +175,64 @@ public class LogEntryService {
 
     // Get recent log entries for a lab (last N entries)
     public List<LogEntry> getRecentLogEntriesByLab(Long labId, int limit) {
-        return getLogEntriesByLab(labId).stream()
-                .sorted((a,b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .limit(limit)
-                .toList();
+        return logEntryRepository.findRecentByLab(labId, Limit.of(limit));
     }
 
     // Search log entries by content keyword
     public List<LogEntry> searchLogEntriesByKeyword(String keyword) {
-        return findAll().stream()
-                .filter(log -> log.getContent().toLowerCase()
-                        .contains(keyword.toLowerCase()))
-                .toList();
+        return searchLogEntries(keyword, Pageable.unpaged()).getContent();
     }
 
     // Search log entries by keyword within a lab
     public List<LogEntry> searchLogEntriesByKeywordInLab(String keyword, Long labId) {
-        return getLogEntriesByLab(labId).stream()
-                .filter(log -> log.getContent().toLowerCase()
-                        .contains(keyword.toLowerCase()))
-                .toList();
+        return searchLogEntriesInLab(keyword, labId, Pageable.unpaged()).getContent();
+    }
+
+    // Ranked page of log entries matching every word of the keyword (words match as prefixes)
+    public Page<LogEntry> searchLogEntries(String keyword, Pageable pageable) {
+        String query = toFullTextQuery(keyword);
+        return query == null
+                ? logEntryRepository.searchByContentLike(escapeLike(keyword.trim()), pageable)
+                : logEntryRepository.searchByContent(query, pageable);
+    }
+
+    // Ranked page of a lab's log entries matching every word of the keyword
+    public Page<LogEntry> searchLogEntriesInLab(String keyword, Long labId, Pageable pageable) {
+        String query = toFullTextQuery(keyword);
+        return query == null
+                ? logEntryRepository.searchByContentLikeInLab(escapeLike(keyword.trim()), labId, pageable)
+                : logEntryRepository.searchByContentInLab(query, labId, pageable);
+    }
+
+    // Turn free text into a boolean-mode query: "cage chang" -> "+cage* +chang*", "tail-biopsy" -> "+tail* +biopsy*"
+    // Words are split wherever the full-text parser splits them (any non-word character, which includes every
+    // boolean-mode operator), so user input can't change the query's meaning and "tail-biopsy" still matches
+    // Returns null when any piece is too short for the full-text index; dropping it would widen the search,
+    // so the caller falls back to a substring match instead
+    static String toFullTextQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("Search keyword cannot be empty");
+        }
+
+        StringBuilder query = new StringBuilder();
+        for (String term : keyword.trim().split("[^\\p{L}\\p{N}_]+")) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            if (term.length() < MIN_FULL_TEXT_TERM_LENGTH) {
+                return null;
+            }
+            if (!query.isEmpty()) {
+                query.append(' ');
+            }
+            query.append('+').append(term).append('*');
+        }
+        return query.isEmpty() ? null : query.toString();
+    }
+
+    // Escape LIKE wildcards so "%" or "_" match literally (the repository queries use ESCAPE '!')
+    static String escapeLike(String keyword) {
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
     }
 
     // Check if log entry exists
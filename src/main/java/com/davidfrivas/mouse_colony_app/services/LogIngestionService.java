@@ -0,0 +1,255 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.config.LogIngestionProperties;
+import com.davidfrivas.mouse_colony_app.config.LogIngestionProperties.Durability;
+import com.davidfrivas.mouse_colony_app.dtos.LogIngestionReceipt;
+import com.davidfrivas.mouse_colony_app.dtos.LogIngestionStatus;
+import com.davidfrivas.mouse_colony_app.repositories.LabRepository;
+import com.davidfrivas.mouse_colony_app.repositories.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Write-behind log ingestion: entries are queued on the request thread and written in batches
+// by a background writer, so a burst of morning-check observations costs a few group commits
+// Entries still in the queue are lost if the process dies, use LogEntryService for must-persist writes
+// On shutdown the queue is closed to new entries and drained; anything left after the drain timeout is counted as dropped
+// Each entry is written with its receipt id, so getStatus can resolve a receipt to the log_id
+@Slf4j
+@Service
+public class LogIngestionService {
+    private static final String INSERT_SQL =
+            "INSERT INTO log_entry (user_id, lab_id, content, created_at, receipt_id) VALUES (?, ?, ?, ?, ?)";
+    private static final String FIND_BY_RECEIPT_SQL = "SELECT log_id FROM log_entry WHERE receipt_id = ?";
+
+    private final UserRepository userRepository;
+    private final LabRepository labRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LogIngestionProperties properties;
+    private final BlockingQueue<PendingLogEntry> queue;
+    // Receipts accepted but not yet written, failed or dropped (bounded by the queue plus one batch)
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+    private final Timer commitDelayTimer;
+
+    private volatile boolean running;
+    private Thread writer;
+    // Submitters hold the read side from the running check through the offer, so once stopWriter
+    // holds the write side, every accepted entry is already in the queue the writer drains
+    private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+
+    public LogIngestionService(UserRepository userRepository, LabRepository labRepository, JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate, LogIngestionProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.labRepository = labRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        Gauge.builder("log.ingestion.queue.depth", queue, BlockingQueue::size)
+                .description("Log entries waiting to be written")
+                .register(meterRegistry);
+        acceptedCounter = Counter.builder("log.ingestion.entries").tag("outcome", "accepted").register(meterRegistry);
+        rejectedCounter = Counter.builder("log.ingestion.entries").tag("outcome", "rejected").register(meterRegistry);
+        writtenCounter = Counter.builder("log.ingestion.entries").tag("outcome", "written").register(meterRegistry);
+        failedCounter = Counter.builder("log.ingestion.entries").tag("outcome", "failed").register(meterRegistry);
+        droppedCounter = Counter.builder("log.ingestion.entries").tag("outcome", "dropped").register(meterRegistry);
+        flushTimer = Timer.builder("log.ingestion.flush")
+                .description("Time to write one batch")
+                .register(meterRegistry);
+        commitDelayTimer = Timer.builder("log.ingestion.commit.delay")
+                .description("Time from acceptance to commit")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startWriter() {
+        running = true;
+        writer = Thread.ofPlatform().name("log-ingestion-writer").daemon().start(this::runWriter);
+    }
+
+    // Stop accepting work and let the writer drain what's already queued
+    @PreDestroy
+    void stopWriter() throws InterruptedException {
+        shutdownLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            shutdownLock.writeLock().unlock();
+        }
+        writer.join(Duration.ofSeconds(30));
+
+        // The writer timed out or was interrupted; whatever it didn't take won't be written
+        List<PendingLogEntry> dropped = new ArrayList<>();
+        queue.drainTo(dropped);
+        if (!dropped.isEmpty()) {
+            dropped.forEach(entry -> inFlight.remove(entry.receiptId()));
+            droppedCounter.increment(dropped.size());
+            log.error("Log ingestion stopped with {} entries unwritten (receipts {} ... {})", dropped.size(),
+                    dropped.get(0).receiptId(), dropped.get(dropped.size() - 1).receiptId());
+        }
+    }
+
+    // Queue a log entry and return immediately with a receipt
+    // Throws if the queue stays full for longer than app.log-ingestion.offer-timeout (backpressure)
+    public LogIngestionReceipt submit(String content, Long userId, Long labId) {
+        // Validation
+        if (content == null || content.trim().isEmpty()) {
+            throw new IllegalArgumentException("Log entry content cannot be empty");
+        }
+
+        // Served from the second-level cache in the common case
+        userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found with id " + userId));
+        labRepository.findById(labId).orElseThrow(() -> new RuntimeException("Lab not found with id " + labId));
+
+        PendingLogEntry entry = new PendingLogEntry(UUID.randomUUID(), userId, labId, content, LocalDateTime.now(), System.nanoTime());
+        boolean accepted;
+        shutdownLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("Log ingestion is shutting down");
+            }
+            // Tracked before the offer so the writer can't finish the entry before it's registered
+            inFlight.add(entry.receiptId());
+            accepted = queue.offer(entry, properties.offerTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        } finally {
+            shutdownLock.readLock().unlock();
+        }
+
+        if (!accepted) {
+            inFlight.remove(entry.receiptId());
+            rejectedCounter.increment();
+            throw new IllegalStateException("Log ingestion queue is full, please retry");
+        }
+        acceptedCounter.increment();
+        return new LogIngestionReceipt(entry.receiptId(), entry.createdAt());
+    }
+
+    // Entries waiting to be written
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    // Resolve a receipt to its log_id once written
+    // In-flight receipts are checked first, so a receipt is never reported UNKNOWN while it may still be written
+    public LogIngestionStatus getStatus(UUID receiptId) {
+        if (inFlight.contains(receiptId)) {
+            return new LogIngestionStatus(receiptId, LogIngestionStatus.State.PENDING, null);
+        }
+        List<Long> logIds = jdbcTemplate.queryForList(FIND_BY_RECEIPT_SQL, Long.class, toBytes(receiptId));
+        return logIds.isEmpty()
+                ? new LogIngestionStatus(receiptId, LogIngestionStatus.State.UNKNOWN, null)
+                : new LogIngestionStatus(receiptId, LogIngestionStatus.State.WRITTEN, logIds.get(0));
+    }
+
+    private void runWriter() {
+        List<PendingLogEntry> batch = new ArrayList<>(properties.batchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingLogEntry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // Whatever piled up while the last batch was being written goes into this one
+                batch.add(first);
+                queue.drainTo(batch, properties.batchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Log ingestion writer failed to flush {} entries", batch.size(), e);
+            } finally {
+                // Written, failed or lost to an unexpected error, none of these entries is pending any more
+                batch.forEach(entry -> inFlight.remove(entry.receiptId()));
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingLogEntry> batch) {
+        flushTimer.record(() -> {
+            if (properties.durability() == Durability.PER_BATCH) {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                                ps.setLong(1, entry.userId());
+                                ps.setLong(2, entry.labId());
+                                ps.setString(3, entry.content());
+                                ps.setTimestamp(4, Timestamp.valueOf(entry.createdAt()));
+                                ps.setBytes(5, toBytes(entry.receiptId()));
+                            }));
+                    batch.forEach(this::recordWritten);
+                    return;
+                } catch (RuntimeException e) {
+                    // Retry entry by entry so one bad row doesn't lose the whole batch
+                    log.warn("Batch of {} log entries failed, retrying individually", batch.size(), e);
+                }
+            }
+            batch.forEach(this::writeOne);
+        });
+    }
+
+    private void writeOne(PendingLogEntry entry) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL,
+                    entry.userId(), entry.labId(), entry.content(), Timestamp.valueOf(entry.createdAt()),
+                    toBytes(entry.receiptId())));
+            recordWritten(entry);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("Dropping log entry {} for lab {}", entry.receiptId(), entry.labId(), e);
+        }
+    }
+
+    private void recordWritten(PendingLogEntry entry) {
+        writtenCounter.increment();
+        commitDelayTimer.record(System.nanoTime() - entry.acceptedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    // receipt_id is BINARY(16): the UUID's two longs, most significant first
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private record PendingLogEntry(UUID receiptId, Long userId, Long labId, String content,
+                                   LocalDateTime createdAt, long acceptedNanos) {
+    }
+}
@@ -0,0 +1,382 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.config.MouseFacetProperties;
+import com.davidfrivas.mouse_colony_app.dtos.*;
+import com.davidfrivas.mouse_colony_app.events.MouseChangedEvent;
+import com.davidfrivas.mouse_colony_app.repositories.MouseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.convert.PeriodStyle;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory faceted search over every mouse: one compressed (Roaring) bitmap of mouse ids per facet value
+// Filters are bitmap ANDs/ORs and counts are AND cardinalities, so no rows are read to answer a query
+// Kept current from MouseChangedEvent (after commit) by re-reading the changed mice
+@Slf4j
+@Service
+public class MouseFacetIndex {
+    private static final String UNKNOWN_SEX = "UNKNOWN";
+
+    private final MouseRepository mouseRepository;
+    private final MouseFacetProperties properties;
+    private final List<Period> ageBoundaries;
+    private final List<String> ageBandLabels;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Serializes read-then-apply refreshes, so an older read can't overwrite a newer one
+    private final Lock refreshLock = new ReentrantLock();
+    private FacetBitmaps bitmaps = new FacetBitmaps();
+    private volatile boolean ready;
+
+    // Mice changed while a rebuild was loading; re-read once the new bitmaps are swapped in
+    private volatile boolean rebuilding;
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    // Age band bitmaps depend on today's date, so they're cached per day and birth-date version
+    private volatile AgeBands ageBands;
+
+    public MouseFacetIndex(MouseRepository mouseRepository, MouseFacetProperties properties) {
+        this.mouseRepository = mouseRepository;
+        this.properties = properties;
+        this.ageBoundaries = properties.ageBands().stream().map(PeriodStyle::detectAndParse).toList();
+
+        List<String> labels = new ArrayList<>();
+        List<String> bounds = properties.ageBands();
+        labels.add("<" + bounds.get(0));
+        for (int i = 1; i < bounds.size(); i++) {
+            labels.add(bounds.get(i - 1) + "-" + bounds.get(i));
+        }
+        labels.add(bounds.get(bounds.size() - 1) + "+");
+        this.ageBandLabels = List.copyOf(labels);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (properties.rebuildOnStartup()) {
+            rebuild();
+        }
+    }
+
+    // Reload every mouse; id ranges are read concurrently into separate bitmaps and merged
+    public void rebuild() {
+        long start = System.nanoTime();
+        long loadedMice;
+        rebuilding = true;
+        try {
+            Long maxId = mouseRepository.findMaxMouseId();
+            FacetBitmaps loaded = maxId == null ? new FacetBitmaps() : load(maxId);
+            loaded.optimize();
+            loadedMice = loaded.all.getLongCardinality();
+
+            lock.writeLock().lock();
+            try {
+                bitmaps = loaded;
+                ageBands = null;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding = false;
+        }
+
+        // Changes committed while ranges were being read may be missing from what was loaded
+        Set<Long> changed = new HashSet<>(changedDuringRebuild);
+        changedDuringRebuild.removeAll(changed);
+        refresh(changed);
+
+        log.info("Mouse facet index loaded {} mice in {} ms", loadedMice,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private FacetBitmaps load(long maxId) {
+        int parallelism = Math.max(1, properties.rebuildParallelism());
+        long rangeSize = maxId / parallelism + 1;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<FacetBitmaps>> ranges = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                long from = i * rangeSize;
+                long to = Math.min(maxId, from + rangeSize);
+                ranges.add(executor.submit(() -> loadRange(from, to)));
+            }
+
+            FacetBitmaps merged = new FacetBitmaps();
+            for (Future<FacetBitmaps> range : ranges) {
+                merged.merge(range.get());
+            }
+            return merged;
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not load the mouse facet index", e);
+        }
+    }
+
+    // Mice with afterId < id <= toId, read in keyset pages
+    private FacetBitmaps loadRange(long afterId, long toId) {
+        FacetBitmaps range = new FacetBitmaps();
+        long last = afterId;
+        while (true) {
+            List<MouseFacetRow> rows = mouseRepository.findFacetRowsBetween(last, toId, Limit.of(properties.rebuildBatchSize()));
+            rows.forEach(range::add);
+            if (rows.size() < properties.rebuildBatchSize()) {
+                return range;
+            }
+            last = rows.get(rows.size() - 1).mouseId();
+        }
+    }
+
+    // Runs after the writing transaction commits (or right away outside one)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMouseChanged(MouseChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.addAll(event.mouseIds());
+        }
+        if (ready) {
+            refresh(event.mouseIds());
+        }
+    }
+
+    // Re-read the given mice and replace their bitmap entries (mice no longer in the database are dropped)
+    private void refresh(Collection<Long> mouseIds) {
+        if (mouseIds.isEmpty()) {
+            return;
+        }
+        RoaringBitmap ids = new RoaringBitmap();
+        mouseIds.forEach(id -> ids.add(toIndex(id)));
+
+        refreshLock.lock();
+        try {
+            List<MouseFacetRow> rows = mouseRepository.findFacetRows(mouseIds);
+            lock.writeLock().lock();
+            try {
+                bitmaps.replace(ids, rows);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // Match a query and count every facet value over the matches
+    public MouseFacetResult search(MouseFacetQuery query) {
+        int limit = query.limit() == null ? properties.defaultLimit() : query.limit();
+        if (limit < 0 || limit > properties.maxLimit()) {
+            throw new IllegalArgumentException("Limit must be between 0 and " + properties.maxLimit());
+        }
+
+        RoaringBitmap matches;
+        Map<MouseFacet, Map<String, Long>> counts;
+        lock.readLock().lock();
+        try {
+            requireReady();
+            Map<String, RoaringBitmap> bands = ageBands();
+            matches = match(query.anyOf(), bands);
+            counts = count(matches, bands);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> page = new ArrayList<>(limit);
+        matches.limit(limit).forEach((int id) -> page.add((long) id));
+        List<MouseSummary> mice = page.isEmpty() ? List.of()
+                : mouseRepository.findSummariesByIds(page).stream().map(MouseSummary::from).toList();
+        return new MouseFacetResult(matches.getLongCardinality(), mice, counts);
+    }
+
+    // Matching mouse ids only (no database access)
+    public RoaringBitmap matchIds(List<Map<MouseFacet, List<String>>> anyOf) {
+        lock.readLock().lock();
+        try {
+            requireReady();
+            return match(anyOf, ageBands());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap match(List<Map<MouseFacet, List<String>>> anyOf, Map<String, RoaringBitmap> bands) {
+        if (anyOf == null || anyOf.isEmpty()) {
+            return bitmaps.all.clone();
+        }
+        List<RoaringBitmap> clauses = new ArrayList<>(anyOf.size());
+        for (Map<MouseFacet, List<String>> clause : anyOf) {
+            RoaringBitmap clauseMatches = null;
+            for (Map.Entry<MouseFacet, List<String>> facet : clause.entrySet()) {
+                Map<String, RoaringBitmap> values = facet.getKey() == MouseFacet.AGE_BAND ? bands : bitmaps.byFacet.get(facet.getKey());
+                List<RoaringBitmap> selected = new ArrayList<>();
+                for (String value : facet.getValue()) {
+                    RoaringBitmap bitmap = values.get(value);
+                    if (bitmap != null) {
+                        selected.add(bitmap);
+                    }
+                }
+                RoaringBitmap facetMatches = FastAggregation.or(selected.iterator());
+                clauseMatches = clauseMatches == null ? facetMatches : RoaringBitmap.and(clauseMatches, facetMatches);
+            }
+            clauses.add(clauseMatches == null ? bitmaps.all : clauseMatches);
+        }
+        return FastAggregation.or(clauses.iterator());
+    }
+
+    private Map<MouseFacet, Map<String, Long>> count(RoaringBitmap matches, Map<String, RoaringBitmap> bands) {
+        Map<MouseFacet, Map<String, Long>> counts = new EnumMap<>(MouseFacet.class);
+        for (MouseFacet facet : MouseFacet.values()) {
+            Map<String, RoaringBitmap> values = facet == MouseFacet.AGE_BAND ? bands : bitmaps.byFacet.get(facet);
+            Map<String, Long> facetCounts = new TreeMap<>();
+            values.forEach((value, bitmap) -> {
+                long count = RoaringBitmap.andCardinality(matches, bitmap);
+                if (count > 0) {
+                    facetCounts.put(value, count);
+                }
+            });
+            counts.put(facet, facetCounts);
+        }
+        return counts;
+    }
+
+    // Callers hold the read lock
+    private Map<String, RoaringBitmap> ageBands() {
+        LocalDate today = LocalDate.now();
+        AgeBands cached = ageBands;
+        if (cached != null && cached.date().equals(today) && cached.birthVersion() == bitmaps.birthVersion) {
+            return cached.bands();
+        }
+
+        // Band i holds mice born after today - boundary(i) and on or before today - boundary(i - 1)
+        Map<String, RoaringBitmap> bands = new LinkedHashMap<>();
+        long upper = Long.MAX_VALUE;
+        for (int i = 0; i < ageBoundaries.size(); i++) {
+            long lower = today.minus(ageBoundaries.get(i)).toEpochDay();
+            bands.put(ageBandLabels.get(i), FastAggregation.or(bitmaps.byBirthDay.subMap(lower, false, upper, true).values().iterator()));
+            upper = lower;
+        }
+        bands.put(ageBandLabels.get(ageBoundaries.size()), FastAggregation.or(bitmaps.byBirthDay.headMap(upper, true).values().iterator()));
+
+        ageBands = new AgeBands(today, bitmaps.birthVersion, bands);
+        return bands;
+    }
+
+    private void requireReady() {
+        if (!ready) {
+            throw new IllegalStateException("Mouse facet index is still loading");
+        }
+    }
+
+    // Bitmaps hold 32-bit ints
+    private static int toIndex(Long mouseId) {
+        return Math.toIntExact(mouseId);
+    }
+
+    private record AgeBands(LocalDate date, long birthVersion, Map<String, RoaringBitmap> bands) {
+    }
+
+    // The bitmaps themselves; not thread-safe, guarded by the index's lock (or owned by one loader)
+    private static final class FacetBitmaps {
+        private final Map<MouseFacet, Map<String, RoaringBitmap>> byFacet = new EnumMap<>(MouseFacet.class);
+        // Age bands shift daily, so births are kept per day and combined into bands on demand
+        private final NavigableMap<Long, RoaringBitmap> byBirthDay = new TreeMap<>();
+        private final RoaringBitmap all = new RoaringBitmap();
+        // Bumped when a mouse enters, leaves or moves between byBirthDay buckets, invalidating cached age bands
+        // (availability changes and transfers, the bulk of refreshes, leave it alone)
+        private long birthVersion;
+
+        FacetBitmaps() {
+            for (MouseFacet facet : MouseFacet.values()) {
+                if (facet != MouseFacet.AGE_BAND) {
+                    byFacet.put(facet, new HashMap<>());
+                }
+            }
+        }
+
+        void add(MouseFacetRow row) {
+            int id = toIndex(row.mouseId());
+            all.add(id);
+            addValue(MouseFacet.STRAIN, row.strain(), id);
+            addValue(MouseFacet.GENOTYPE, row.genotype(), id);
+            addValue(MouseFacet.SEX, row.sex() == null ? UNKNOWN_SEX : row.sex().name(), id);
+            addValue(MouseFacet.AVAILABILITY, String.valueOf(Boolean.TRUE.equals(row.availability())), id);
+            addValue(MouseFacet.LAB, String.valueOf(row.labId()), id);
+            byBirthDay.computeIfAbsent(row.dateOfBirth().toEpochDay(), day -> new RoaringBitmap()).add(id);
+        }
+
+        // Swap the given mice's entries for the re-read rows
+        void replace(RoaringBitmap ids, List<MouseFacetRow> rows) {
+            Map<Long, RoaringBitmap> removedByDay = removeAll(ids);
+            Map<Long, RoaringBitmap> addedByDay = new HashMap<>();
+            for (MouseFacetRow row : rows) {
+                add(row);
+                addedByDay.computeIfAbsent(row.dateOfBirth().toEpochDay(), day -> new RoaringBitmap()).add(toIndex(row.mouseId()));
+            }
+            if (!sameMembers(removedByDay, addedByDay)) {
+                birthVersion++;
+            }
+        }
+
+        // Clears mice from every value; no per-mouse state is kept, so each value bitmap gets one andNot
+        // Returns the cleared mice per birth day
+        private Map<Long, RoaringBitmap> removeAll(RoaringBitmap ids) {
+            Map<Long, RoaringBitmap> removedByDay = new HashMap<>();
+            if (!RoaringBitmap.intersects(all, ids)) {
+                return removedByDay;
+            }
+            all.andNot(ids);
+            byFacet.values().forEach(values -> values.values().removeIf(bitmap -> {
+                bitmap.andNot(ids);
+                return bitmap.isEmpty();
+            }));
+            byBirthDay.entrySet().removeIf(day -> {
+                RoaringBitmap removed = RoaringBitmap.and(day.getValue(), ids);
+                if (removed.isEmpty()) {
+                    return false;
+                }
+                removedByDay.put(day.getKey(), removed);
+                day.getValue().andNot(ids);
+                return day.getValue().isEmpty();
+            });
+            return removedByDay;
+        }
+
+        private static boolean sameMembers(Map<Long, RoaringBitmap> a, Map<Long, RoaringBitmap> b) {
+            if (!a.keySet().equals(b.keySet())) {
+                return false;
+            }
+            return a.entrySet().stream().allMatch(day -> RoaringBitmap.xorCardinality(day.getValue(), b.get(day.getKey())) == 0);
+        }
+
+        void merge(FacetBitmaps other) {
+            all.or(other.all);
+            other.byFacet.forEach((facet, values) -> values.forEach((value, bitmap) ->
+                    byFacet.get(facet).merge(value, bitmap, (a, b) -> RoaringBitmap.or(a, b))));
+            other.byBirthDay.forEach((day, bitmap) -> byBirthDay.merge(day, bitmap, (a, b) -> RoaringBitmap.or(a, b)));
+            birthVersion++;
+        }
+
+        // Convert dense stretches to run containers once loading is done
+        void optimize() {
+            all.runOptimize();
+            byFacet.values().forEach(values -> values.values().forEach(RoaringBitmap::runOptimize));
+            byBirthDay.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        private void addValue(MouseFacet facet, String value, int id) {
+            byFacet.get(facet).computeIfAbsent(value, v -> new RoaringBitmap()).add(id);
+        }
+    }
+}
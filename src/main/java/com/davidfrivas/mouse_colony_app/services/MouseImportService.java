@@ -0,0 +1,289 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.dtos.ImportReport;
+import com.davidfrivas.mouse_colony_app.dtos.ImportReport.RowError;
+import com.davidfrivas.mouse_colony_app.dtos.MouseImportRow;
+import com.davidfrivas.mouse_colony_app.entities.*;
+import com.davidfrivas.mouse_colony_app.events.MouseChangedEvent;
+import com.davidfrivas.mouse_colony_app.repositories.LabRepository;
+import com.davidfrivas.mouse_colony_app.repositories.MouseRepository;
+import com.davidfrivas.mouse_colony_app.repositories.ResearchProtocolRepository;
+import com.davidfrivas.mouse_colony_app.repositories.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+
+@AllArgsConstructor
+@Service
+public class MouseImportService {
+    // Rows committed per transaction (a multiple of hibernate.jdbc.batch_size)
+    public static final int BATCH_SIZE = 1000;
+
+    private final MouseRepository mouseRepository;
+    private final LabRepository labRepository;
+    private final ResearchProtocolRepository protocolRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Stream mice from CSV (with a header row) or NDJSON and insert them in batches
+    // Invalid rows are reported and skipped, the rest of the load continues
+    public ImportReport importMice(InputStream input, DataFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<RowError> errors = new ArrayList<>();
+        List<PendingRow> batch = new ArrayList<>(BATCH_SIZE);
+        long lineNumber = 0;
+        long totalRows = 0;
+        long imported = 0;
+
+        Map<String, Integer> csvColumns = null;
+        if (format == DataFormat.CSV) {
+            String header = reader.readLine();
+            lineNumber++;
+            if (header == null) {
+                return new ImportReport(0, 0, errors);
+            }
+            csvColumns = parseHeader(header);
+        }
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            totalRows++;
+
+            try {
+                MouseImportRow row = format == DataFormat.CSV
+                        ? parseCsvRow(line, csvColumns)
+                        : objectMapper.readValue(line, MouseImportRow.class);
+                batch.add(new PendingRow(lineNumber, row));
+            } catch (Exception e) {
+                errors.add(new RowError(lineNumber, "Unparseable row: " + e.getMessage()));
+            }
+
+            if (batch.size() == BATCH_SIZE) {
+                imported += flushBatch(batch, errors);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            imported += flushBatch(batch, errors);
+        }
+
+        return new ImportReport(totalRows, imported, errors);
+    }
+
+    // Validate and insert one batch in its own transaction, returning the number of rows inserted
+    private long flushBatch(List<PendingRow> batch, List<RowError> errors) {
+        // Validation errors are collected per batch, so a failed batch can tell its invalid rows from the submitted ones
+        List<RowError> batchErrors = new ArrayList<>();
+        try {
+            Long inserted = transactionTemplate.execute(status -> insertBatch(batch, batchErrors));
+            errors.addAll(batchErrors);
+            return inserted == null ? 0 : inserted;
+        } catch (RuntimeException e) {
+            // The database rejected the batch as a whole, so none of its valid rows were committed
+            Set<Long> invalidLines = new HashSet<>();
+            batchErrors.forEach(error -> invalidLines.add(error.lineNumber()));
+            for (PendingRow pending : batch) {
+                if (!invalidLines.contains(pending.lineNumber())) {
+                    batchErrors.add(new RowError(pending.lineNumber(), "Batch failed: " + e.getMessage()));
+                }
+            }
+            batchErrors.sort(Comparator.comparingLong(RowError::lineNumber));
+            errors.addAll(batchErrors);
+            return 0;
+        }
+    }
+
+    private long insertBatch(List<PendingRow> batch, List<RowError> errors) {
+        // Resolve every distinct reference in the batch with one query per entity type
+        Map<Long, Lab> labs = loadById(labRepository.findAllById(distinct(batch, MouseImportRow::labId)), Lab::getLabId);
+        Map<Long, ResearchProtocol> protocols = loadById(protocolRepository.findAllById(distinct(batch, MouseImportRow::protocolId)), ResearchProtocol::getProtocolId);
+        Map<Long, User> users = loadById(userRepository.findAllById(distinct(batch, MouseImportRow::userId)), User::getUserId);
+
+        Set<Long> parentIds = distinct(batch, MouseImportRow::motherId);
+        parentIds.addAll(distinct(batch, MouseImportRow::fatherId));
+        Map<Long, Mouse> parents = loadById(mouseRepository.findAllById(parentIds), Mouse::getMouseId);
+
+        List<Mouse> mice = new ArrayList<>(batch.size());
+        for (PendingRow pending : batch) {
+            MouseImportRow row = pending.row();
+            String error = validate(row, labs, protocols, users, parents);
+            if (error != null) {
+                errors.add(new RowError(pending.lineNumber(), error));
+                continue;
+            }
+
+            mice.add(Mouse.builder()
+                    .name(row.name())
+                    .sex(row.sex() == null || row.sex().isBlank() ? null : Mouse.Sex.valueOf(row.sex().trim()))
+                    .genotype(row.genotype())
+                    .strain(row.strain())
+                    .dateOfBirth(row.dateOfBirth())
+                    .availability(row.availability() == null ? Boolean.TRUE : row.availability())
+                    .notes(row.notes())
+                    .lab(labs.get(row.labId()))
+                    .protocol(protocols.get(row.protocolId()))
+                    .user(users.get(row.userId()))
+                    .mother(row.motherId() == null ? null : parents.get(row.motherId()))
+                    .father(row.fatherId() == null ? null : parents.get(row.fatherId()))
+                    .build());
+        }
+
+        mouseRepository.saveAll(mice);
+        eventPublisher.publishEvent(new MouseChangedEvent(mice.stream().map(Mouse::getMouseId).toList()));
+
+        // Send the batched INSERTs now and detach the batch so memory stays flat across the load
+        entityManager.flush();
+        entityManager.clear();
+        return (long) mice.size();
+    }
+
+    // Same checks as MouseService.createMouse, plus reference and enum checks
+    private String validate(MouseImportRow row, Map<Long, Lab> labs, Map<Long, ResearchProtocol> protocols,
+                            Map<Long, User> users, Map<Long, Mouse> parents) {
+        if (row.name() == null || row.name().trim().isEmpty()) {
+            return "Mouse name cannot be empty";
+        }
+        if (row.genotype() == null) {
+            return "Genotype is required";
+        }
+        if (row.strain() == null) {
+            return "Strain is required";
+        }
+        if (row.dateOfBirth() == null) {
+            return "Date of birth is required";
+        }
+        if (row.sex() != null && !row.sex().isBlank()
+                && Arrays.stream(Mouse.Sex.values()).noneMatch(s -> s.name().equals(row.sex().trim()))) {
+            return "Sex must be M or F";
+        }
+        if (row.labId() == null || !labs.containsKey(row.labId())) {
+            return "Lab not found with id: " + row.labId();
+        }
+        if (row.protocolId() == null || !protocols.containsKey(row.protocolId())) {
+            return "Protocol not found with id: " + row.protocolId();
+        }
+        if (row.userId() == null || !users.containsKey(row.userId())) {
+            return "User not found with id: " + row.userId();
+        }
+        if (row.motherId() != null && !parents.containsKey(row.motherId())) {
+            return "Mother not found with id: " + row.motherId();
+        }
+        if (row.fatherId() != null && !parents.containsKey(row.fatherId())) {
+            return "Father not found with id: " + row.fatherId();
+        }
+        return null;
+    }
+
+    private static Set<Long> distinct(List<PendingRow> batch, Function<MouseImportRow, Long> getter) {
+        Set<Long> ids = new HashSet<>();
+        for (PendingRow pending : batch) {
+            Long id = getter.apply(pending.row());
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static <T> Map<Long, T> loadById(Iterable<T> entities, Function<T, Long> idGetter) {
+        Map<Long, T> byId = new HashMap<>();
+        entities.forEach(e -> byId.put(idGetter.apply(e), e));
+        return byId;
+    }
+
+    // CSV parsing
+
+    private static Map<String, Integer> parseHeader(String header) {
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        return columns;
+    }
+
+    private static MouseImportRow parseCsvRow(String line, Map<String, Integer> columns) {
+        List<String> values = splitCsv(line);
+        return new MouseImportRow(
+                field(values, columns, "name"),
+                field(values, columns, "sex"),
+                field(values, columns, "genotype"),
+                field(values, columns, "strain"),
+                Optional.ofNullable(field(values, columns, "dateOfBirth")).map(LocalDate::parse).orElse(null),
+                Optional.ofNullable(field(values, columns, "availability")).map(Boolean::parseBoolean).orElse(null),
+                field(values, columns, "notes"),
+                longField(values, columns, "labId"),
+                longField(values, columns, "protocolId"),
+                longField(values, columns, "userId"),
+                longField(values, columns, "motherId"),
+                longField(values, columns, "fatherId")
+        );
+    }
+
+    private static String field(List<String> values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Long longField(List<String> values, Map<String, Integer> columns, String name) {
+        String value = field(values, columns, name);
+        return value == null ? null : Long.parseLong(value.trim());
+    }
+
+    // Split one CSV line, honouring double-quoted fields and "" escapes
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private record PendingRow(long lineNumber, MouseImportRow row) {
+    }
+}
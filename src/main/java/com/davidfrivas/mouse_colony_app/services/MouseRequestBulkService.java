@@ -0,0 +1,141 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.dtos.BulkDecisionReport;
+import com.davidfrivas.mouse_colony_app.dtos.BulkDecisionReport.Outcome;
+import com.davidfrivas.mouse_colony_app.dtos.RequestDecision;
+import com.davidfrivas.mouse_colony_app.entities.MouseRequest;
+import com.davidfrivas.mouse_colony_app.entities.MouseRequest.Status;
+import com.davidfrivas.mouse_colony_app.events.MouseChangedEvent;
+import com.davidfrivas.mouse_colony_app.events.MouseRequestEvent;
+import com.davidfrivas.mouse_colony_app.repositories.MouseLabRow;
+import com.davidfrivas.mouse_colony_app.repositories.MouseRepository;
+import com.davidfrivas.mouse_colony_app.repositories.MouseRequestRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Applies many approve/reject decisions in one transaction with set-based UPDATEs,
+// so a 50-mouse cohort costs a handful of statements instead of 50 approveRequest calls
+@AllArgsConstructor
+@Service
+public class MouseRequestBulkService {
+    // Attempts per batch before a deadlock/lock conflict is reported to the caller
+    private static final int MAX_ATTEMPTS = 3;
+    // Largest batch accepted in one call (bounds the IN lists and lock footprint)
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final MouseRequestRepository requestRepository;
+    private final MouseRepository mouseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Validate and apply a batch of decisions, returning an outcome per request
+    // Invalid decisions are reported as failed, the valid ones are still applied
+    public BulkDecisionReport decide(List<RequestDecision> decisions) {
+        if (decisions == null || decisions.isEmpty()) {
+            throw new IllegalArgumentException("At least one decision is required");
+        }
+        if (decisions.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " decisions can be applied at once");
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> decideOnce(decisions));
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw new IllegalStateException("Requests were modified concurrently, please retry", e);
+                }
+            }
+        }
+    }
+
+    private BulkDecisionReport decideOnce(List<RequestDecision> decisions) {
+        Set<Long> requestIds = decisions.stream().map(RequestDecision::requestId).collect(Collectors.toSet());
+        Map<Long, MouseRequest> requests = requestRepository.findAllWithDetails(requestIds).stream()
+                .collect(Collectors.toMap(MouseRequest::getRequestId, Function.identity()));
+
+        // Lock mice before requests, the same order approveRequest uses
+        Set<Long> approvalMouseIds = decisions.stream()
+                .filter(d -> d.decision() == RequestDecision.Decision.APPROVE && requests.containsKey(d.requestId()))
+                .map(d -> requests.get(d.requestId()).getMouse().getMouseId())
+                .collect(Collectors.toSet());
+        Map<Long, Long> availableMouseLabs = approvalMouseIds.isEmpty() ? Map.of()
+                : mouseRepository.lockAvailable(approvalMouseIds).stream()
+                .collect(Collectors.toMap(MouseLabRow::getMouseId, MouseLabRow::getLabId));
+        Set<Long> pendingIds = requests.isEmpty() ? Set.of() : new HashSet<>(requestRepository.lockPending(requests.keySet()));
+
+        // Validate every decision against the locked state
+        Outcome[] outcomes = new Outcome[decisions.size()];
+        Map<Long, List<Long>> approvalsByToLab = new HashMap<>();
+        List<Long> approvedIds = new ArrayList<>();
+        List<Long> rejectedIds = new ArrayList<>();
+        Set<Long> claimedMice = new HashSet<>();
+        Set<Long> decided = new HashSet<>();
+
+        for (int i = 0; i < decisions.size(); i++) {
+            RequestDecision decision = decisions.get(i);
+            MouseRequest request = requests.get(decision.requestId());
+
+            if (request == null) {
+                outcomes[i] = Outcome.failed(decision.requestId(), "Request not found with id: " + decision.requestId());
+            } else if (!decided.add(decision.requestId())) {
+                outcomes[i] = Outcome.failed(decision.requestId(), "Request appears more than once in the batch");
+            } else if (!pendingIds.contains(decision.requestId())) {
+                outcomes[i] = Outcome.failed(decision.requestId(), "Only pending requests can be approved or rejected");
+            } else if (decision.decision() == RequestDecision.Decision.REJECT) {
+                rejectedIds.add(decision.requestId());
+                outcomes[i] = Outcome.applied(decision.requestId(), Status.REJECTED);
+            } else {
+                Long mouseId = request.getMouse().getMouseId();
+                Long currentLabId = availableMouseLabs.get(mouseId);
+                if (currentLabId == null || !claimedMice.add(mouseId)) {
+                    outcomes[i] = Outcome.failed(decision.requestId(), "Mouse is no longer available");
+                } else if (!currentLabId.equals(request.getFromLab().getLabId())) {
+                    claimedMice.remove(mouseId);
+                    outcomes[i] = Outcome.failed(decision.requestId(), "Mouse does not belong to the specified lab");
+                } else {
+                    approvalsByToLab.computeIfAbsent(request.getToLab().getLabId(), id -> new ArrayList<>()).add(mouseId);
+                    approvedIds.add(decision.requestId());
+                    outcomes[i] = Outcome.applied(decision.requestId(), Status.APPROVED);
+                }
+            }
+        }
+
+        // Requests that lose their mouse to an approval in this batch (read before the updates change them)
+        List<MouseRequest> competing = List.of();
+        if (!claimedMice.isEmpty()) {
+            Set<Long> excluded = new HashSet<>(approvedIds);
+            excluded.addAll(rejectedIds);
+            competing = requestRepository.findByMouseIdsAndStatusExcluding(claimedMice, Status.PENDING, excluded);
+        }
+
+        // Set-based writes: one UPDATE per destination lab for mice, one per status for requests
+        approvalsByToLab.forEach((toLabId, mouseIds) -> mouseRepository.transferAll(mouseIds, toLabId));
+        if (!approvedIds.isEmpty()) {
+            requestRepository.updateStatus(approvedIds, Status.APPROVED.name());
+        }
+        if (!rejectedIds.isEmpty()) {
+            requestRepository.updateStatus(rejectedIds, Status.REJECTED.name());
+        }
+        if (!claimedMice.isEmpty()) {
+            requestRepository.rejectPendingForMice(claimedMice);
+        }
+
+        // Delivered to listeners only after this transaction commits
+        if (!claimedMice.isEmpty()) {
+            eventPublisher.publishEvent(new MouseChangedEvent(List.copyOf(claimedMice)));
+        }
+        approvedIds.forEach(id -> eventPublisher.publishEvent(MouseRequestEvent.of(MouseRequestEvent.Type.APPROVED, requests.get(id))));
+        rejectedIds.forEach(id -> eventPublisher.publishEvent(MouseRequestEvent.of(MouseRequestEvent.Type.REJECTED, requests.get(id))));
+        competing.forEach(r -> eventPublisher.publishEvent(MouseRequestEvent.of(MouseRequestEvent.Type.REJECTED, r)));
+
+        return BulkDecisionReport.of(Arrays.asList(outcomes));
+    }
+}
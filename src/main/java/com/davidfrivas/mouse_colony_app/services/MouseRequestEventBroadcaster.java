@@ -0,0 +1,178 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.config.RequestEventProperties;
+import com.davidfrivas.mouse_colony_app.events.MouseRequestEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Fans request lifecycle events out to the SSE connections of the labs involved
+// Idle connections hold no threads (servlet async), sends run on virtual threads so a slow client can't stall others
+// Each connection drains its own queue serially, so a client sees events in id order with any replay first
+@Slf4j
+@Service
+public class MouseRequestEventBroadcaster {
+    private final RequestEventProperties properties;
+    private final TaskScheduler taskScheduler;
+
+    private final Map<Long, Set<Connection>> connectionsByLab = new ConcurrentHashMap<>();
+    private final Map<Long, Deque<StoredEvent>> historyByLab = new ConcurrentHashMap<>();
+    // Event ids are per process, a client resuming across a restart gets only new events
+    private final AtomicLong eventSequence = new AtomicLong();
+    // Held while numbering, remembering and queueing an event, and while a subscriber replays history,
+    // so queues fill in id order and a replayed event is never queued again live (queueing never blocks)
+    private final Object publishLock = new Object();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    public MouseRequestEventBroadcaster(RequestEventProperties properties, TaskScheduler taskScheduler) {
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @PostConstruct
+    void startHeartbeat() {
+        taskScheduler.scheduleAtFixedRate(this::sendHeartbeats, properties.heartbeatInterval());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        connectionsByLab.values().forEach(connections -> connections.forEach(c -> c.emitter().complete()));
+        sender.shutdown();
+    }
+
+    // Open a stream for a lab, replaying anything after lastEventId that is still in the history buffer
+    public SseEmitter subscribe(Long labId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.emitterTimeout().toMillis());
+        Connection connection = new Connection(emitter);
+        Set<Connection> connections = connectionsByLab.computeIfAbsent(labId, id -> ConcurrentHashMap.newKeySet());
+
+        Runnable remove = () -> connections.remove(connection);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        // Replay and register in one step: later events queue behind the replay, earlier ones are in it
+        synchronized (publishLock) {
+            if (lastEventId != null) {
+                historySince(labId, lastEventId).forEach(connection::enqueue);
+            }
+            connections.add(connection);
+        }
+        return emitter;
+    }
+
+    // Publish after the surrounding transaction commits (or right away outside one)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequestEvent(MouseRequestEvent event) {
+        Set<Long> labIds = new HashSet<>(List.of(event.fromLabId(), event.toLabId()));
+        synchronized (publishLock) {
+            StoredEvent stored = new StoredEvent(eventSequence.incrementAndGet(), event);
+            for (Long labId : labIds) {
+                remember(labId, stored);
+                Set<Connection> connections = connectionsByLab.get(labId);
+                if (connections != null) {
+                    connections.forEach(connection -> connection.enqueue(stored));
+                }
+            }
+        }
+    }
+
+    // Open connections across all labs
+    public int getConnectionCount() {
+        return connectionsByLab.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void sendHeartbeats() {
+        for (Set<Connection> connections : connectionsByLab.values()) {
+            connections.forEach(connection -> connection.enqueue(SseEmitter.event().comment("heartbeat")));
+        }
+    }
+
+    private void remember(Long labId, StoredEvent stored) {
+        Deque<StoredEvent> history = historyByLab.computeIfAbsent(labId, id -> new ArrayDeque<>());
+        synchronized (history) {
+            history.addLast(stored);
+            while (history.size() > properties.historySize()) {
+                history.removeFirst();
+            }
+        }
+    }
+
+    private List<StoredEvent> historySince(Long labId, long lastEventId) {
+        Deque<StoredEvent> history = historyByLab.get(labId);
+        if (history == null) {
+            return List.of();
+        }
+        synchronized (history) {
+            return history.stream().filter(e -> e.id() > lastEventId).toList();
+        }
+    }
+
+    private record StoredEvent(long id, MouseRequestEvent event) {
+    }
+
+    // One client stream; at most one virtual thread drains its queue at a time
+    private final class Connection {
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        void enqueue(StoredEvent stored) {
+            enqueue(SseEmitter.event()
+                    .id(Long.toString(stored.id()))
+                    .name(stored.event().type().name())
+                    .data(stored.event(), MediaType.APPLICATION_JSON));
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            pending.add(event);
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = pending.poll()) != null) {
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        log.debug("Dropping request event stream", e);
+                        closed = true;
+                        pending.clear();
+                        emitter.completeWithError(e);
+                    }
+                }
+                draining.set(false);
+                // Something queued after the last poll but before the flag cleared still needs a drainer
+            } while (!closed && !pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+}
@@ -1,24 +1,39 @@
 package com.davidfrivas.mouse_colony_app.services;
 
+import com.davidfrivas.mouse_colony_app.dtos.MouseRequestPage;
+import com.davidfrivas.mouse_colony_app.dtos.MouseRequestSummary;
+import com.davidfrivas.mouse_colony_app.dtos.RequestCursor;
 import com.davidfrivas.mouse_colony_app.entities.Lab;
 import com.davidfrivas.mouse_colony_app.entities.MouseRequest;
+import com.davidfrivas.mouse_colony_app.entities.MouseRequest.Status;
 import com.davidfrivas.mouse_colony_app.entities.User;
 import com.davidfrivas.mouse_colony_app.entities.Mouse;
+import com.davidfrivas.mouse_colony_app.events.MouseRequestEvent;
 import com.davidfrivas.mouse_colony_app.repositories.*;
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
 @AllArgsConstructor
 @Service
 public class MouseRequestService {
+    // Attempts per approval before a concurrency conflict is reported to the caller
+    private static final int MAX_APPROVAL_ATTEMPTS = 3;
+    // Largest inbox/outbox page a caller can ask for
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final MouseRequestRepository requestRepository;
     private final UserRepository userRepository;
     private final MouseRepository mouseRepository;
     private final LabRepository labRepository;
     private final MouseService mouseService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Create a new mouse request
     public MouseRequest createRequest(MouseRequest request, Long requestorId, Long mouseId, Long fromLabId, Long toLabId) {
@@ -54,9 +69,11 @@ public class MouseRequestService {
 
         // Set default status if not provided
         if (request.getStatus() == null)
-            request.setStatus("PENDING");
+            request.setStatus(Status.PENDING);
 
-        return requestRepository.save(request);
+        MouseRequest saved = requestRepository.save(request);
+        eventPublisher.publishEvent(MouseRequestEvent.of(MouseRequestEvent.Type.CREATED, saved));
+        return saved;
     }
 
     // Find request by ID
@@ -74,7 +91,7 @@ public class MouseRequestService {
         MouseRequest request = findById(id);
 
         // Only allow updates if still pending
-        if (!"PENDING".equals(request.getStatus())) {
+        if (request.getStatus() != Status.PENDING) {
             throw new IllegalStateException("Cannot update message for non-pending requests");
         }
 
@@ -82,28 +99,47 @@ public class MouseRequestService {
         return requestRepository.save(request);
     }
 
-    // Approve quest (transfers the mouse)
-    @Transactional
+    // Approve request (transfers the mouse)
+    // Runs in its own transaction, retried a bounded number of times on optimistic-lock/deadlock conflicts
     public MouseRequest approveRequest(Long id) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> approveOnce(id));
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_APPROVAL_ATTEMPTS) {
+                    throw new IllegalStateException("Request " + id + " was modified concurrently, please retry", e);
+                }
+            }
+        }
+    }
+
+    private MouseRequest approveOnce(Long id) {
         MouseRequest request = findById(id);
 
-        // Validate quest is pending
-        if (!"PENDING".equals(request.getStatus())) {
+        // Validate request is pending
+        if (!request.getStatus().canTransitionTo(Status.APPROVED)) {
             throw new IllegalStateException("Only pending requests can be approved");
         }
 
-        // Validate mouse is still available
-        Mouse mouse = request.getMouse();
-        if (!mouse.getAvailability()) {
+        // The conditional UPDATE on the mouse row is the arbiter: when several labs approve at once,
+        // the row lock serializes them and only the first still sees the mouse as available
+        Long mouseId = request.getMouse().getMouseId();
+        if (!mouseService.transferIfAvailable(mouseId, request.getFromLab().getLabId(), request.getToLab().getLabId())) {
             throw new IllegalStateException("Mouse is no longer available");
         }
 
-        // Transfer the mouse to the new lab
-        mouseService.transferToLab(mouse.getMouseId(), request.getToLab().getLabId());
+        // Update request status (version-checked against a concurrent reject/cancel)
+        request.transitionTo(Status.APPROVED);
+        MouseRequest approved = requestRepository.save(request);
 
-        // Update request status
-        request.setStatus("APPROVED");
-        return requestRepository.save(request);
+        // The mouse is gone, so nobody else's request for it can succeed
+        List<MouseRequest> competing = requestRepository.findByMouseIdAndStatusExcluding(mouseId, Status.PENDING, id);
+        requestRepository.rejectCompetingRequests(mouseId, id);
+
+        // Delivered to listeners only after this transaction commits
+        eventPublisher.publishEvent(MouseRequestEvent.of(MouseRequestEvent.Type.APPROVED, approved));
+        competing.forEach(r -> eventPublisher.publishEvent(MouseRequestEvent.of(MouseRequestEvent.Type.REJECTED, r)));
+        return approved;
     }
 
     // Reject request
@@ -111,12 +147,14 @@ public class MouseRequestService {
         MouseRequest request = findById(id);
 
         // Validate request is still pending
-        if (!"PENDING".equals(request.getStatus())) {
+        if (!request.getStatus().canTransitionTo(Status.REJECTED)) {
             throw new IllegalStateException("Only pending requests can be rejected");
         }
 
-        request.setStatus("REJECTED");
-        return requestRepository.save(request);
+        request.transitionTo(Status.REJECTED);
+        MouseRequest saved = requestRepository.save(request);
+        eventPublisher.publishEvent(MouseRequestEvent.of(MouseRequestEvent.Type.REJECTED, saved));
+        return saved;
     }
 
     // Cancel request (by requestor)
@@ -124,7 +162,7 @@ public class MouseRequestService {
         MouseRequest request = findById(id);
 
         // Validate request is pending
-        if (!"PENDING".equals(request.getStatus())) {
+        if (!request.getStatus().canTransitionTo(Status.CANCELLED)) {
             throw new IllegalStateException("Only pending requests can be cancelled");
         }
 
@@ -133,8 +171,10 @@ public class MouseRequestService {
             throw new IllegalStateException("Only the requestor can cancel this request");
         }
 
-        request.setStatus("CANCELLED");
-        return requestRepository.save(request);
+        request.transitionTo(Status.CANCELLED);
+        MouseRequest saved = requestRepository.save(request);
+        eventPublisher.publishEvent(MouseRequestEvent.of(MouseRequestEvent.Type.CANCELLED, saved));
+        return saved;
     }
 
     // Delete request
@@ -146,49 +186,74 @@ public class MouseRequestService {
     // Business logic methods
 
     // Get requests by status
-    public List<MouseRequest> getRequestsByStatus(String status) {
-        return findAll().stream()
-                .filter(r -> r.getStatus().equals(status))
-                .toList();
+    public List<MouseRequest> getRequestsByStatus(Status status) {
+        return requestRepository.findByStatus(status);
     }
 
     // Get pending requests
     public List<MouseRequest> getPendingRequests() {
-        return getRequestsByStatus("PENDING");
+        return getRequestsByStatus(Status.PENDING);
     }
 
     // Get requests sent by a user
     public List<MouseRequest> getRequestsByRequestor(Long requestorId) {
-        return findAll().stream()
-                .filter(r -> r.getRequestor().getUserId().equals(requestorId))
-                .toList();
+        return requestRepository.findByRequestorId(requestorId);
     }
 
     // Get requests for a specific mouse
     public List<MouseRequest> getRequestsForMouse(Long mouseId) {
-        return findAll().stream()
-                .filter(r ->r.getMouse().getMouseId().equals(mouseId))
-                .toList();
+        return requestRepository.findByMouseId(mouseId);
     }
 
     // Get requests sent from a lab
     public List<MouseRequest> getRequestsFromLab(Long labId) {
-        return findAll().stream()
-                .filter(r -> r.getFromLab().getLabId().equals(labId))
-                .toList();
+        return requestRepository.findByFromLabId(labId);
     }
 
     public List<MouseRequest> getRequestsToLab(Long labId) {
-        return findAll().stream()
-                .filter(r -> r.getToLab().getLabId().equals(labId))
-                .toList();
+        return requestRepository.findByToLabId(labId);
     }
 
     // Get pending requests for a lab to review (incoming requests)
     public List<MouseRequest> getPendingRequestsForLab(Long labId) {
-        return findAll().stream()
-                .filter(r -> r.getFromLab().getLabId().equals(labId))
-                .filter(r -> "PENDING".equals(r.getStatus()))
+        return requestRepository.findByFromLabIdAndStatus(labId, Status.PENDING);
+    }
+
+    // Get a page of a lab's inbox (requests for its mice), newest first
+    // Pass the previous page's cursor to continue, or null for the first page
+    public MouseRequestPage getInbox(Long labId, Status status, RequestCursor cursor, int pageSize) {
+        validatePageSize(pageSize);
+        List<MouseRequest> requests = cursor == null
+                ? requestRepository.findInbox(labId, status, Limit.of(pageSize))
+                : requestRepository.findInboxAfter(labId, status, cursor.createdAt(), cursor.requestId(), Limit.of(pageSize));
+        return toPage(requests, pageSize);
+    }
+
+    // Get a page of a lab's outbox (requests it has made), newest first
+    public MouseRequestPage getOutbox(Long labId, Status status, RequestCursor cursor, int pageSize) {
+        validatePageSize(pageSize);
+        List<MouseRequest> requests = cursor == null
+                ? requestRepository.findOutbox(labId, status, Limit.of(pageSize))
+                : requestRepository.findOutboxAfter(labId, status, cursor.createdAt(), cursor.requestId(), Limit.of(pageSize));
+        return toPage(requests, pageSize);
+    }
+
+    private static void validatePageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private static MouseRequestPage toPage(List<MouseRequest> requests, int pageSize) {
+        // A short page means there is nothing after it
+        RequestCursor next = requests.size() < pageSize ? null : RequestCursor.after(requests.get(requests.size() - 1));
+        return new MouseRequestPage(requests.stream().map(MouseRequestSummary::from).toList(), next);
+    }
+
+    // Get pending requests for a lab as list-view rows (associations come from the "MouseRequest.summary" graph)
+    public List<MouseRequestSummary> getPendingRequestSummariesForLab(Long labId) {
+        return getPendingRequestsForLab(labId).stream()
+                .map(MouseRequestSummary::from)
                 .toList();
     }
 
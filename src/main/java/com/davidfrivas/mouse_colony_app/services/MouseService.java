@@ -1,8 +1,14 @@
 package com.davidfrivas.mouse_colony_app.services;
 
+import com.davidfrivas.mouse_colony_app.dtos.MouseSummary;
 import com.davidfrivas.mouse_colony_app.entities.*;
+import com.davidfrivas.mouse_colony_app.events.MouseChangedEvent;
 import com.davidfrivas.mouse_colony_app.repositories.*;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -15,6 +21,7 @@ public class MouseService {
     private final ResearchProtocolRepository protocolRepository;
     private final UserRepository userRepository;
     private final LitterRepository litterRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Create a new mouse
     public Mouse createMouse(Mouse mouse, Long labId, Long protocolId, Long userId) {
@@ -40,7 +47,9 @@ public class MouseService {
         if (mouse.getAvailability() == null)
             mouse.setAvailability(true);
 
-        return mouseRepository.save(mouse);
+        Mouse saved = mouseRepository.save(mouse);
+        eventPublisher.publishEvent(MouseChangedEvent.of(saved.getMouseId())); // Facet index, want lists
+        return saved;
     }
 
     // Create mouse with parents
@@ -61,19 +70,16 @@ public class MouseService {
         return mouseRepository.save(mouse);
     }
 
-    // Create mouse from litter
+    // Create mouse from litter (many pups at once: LitterWeaningService)
     public Mouse createMouseFromLitter(Mouse mouse, Long labId, Long protocolId, Long userId, Long litterId) {
-        // Create a basic mouse
-        mouse = createMouse(mouse, labId, protocolId, userId);
-
-        // Set litter and automatically set parents from litter
+        // Set litter and automatically set parents from litter before the single save in createMouse
         Litter litter = litterRepository.findById(litterId).orElseThrow(() -> new RuntimeException("Litter not found with id: " + litterId));
 
         mouse.setLitter(litter);
         mouse.setMother(litter.getMother());
         mouse.setFather(litter.getFather());
 
-        return mouseRepository.save(mouse);
+        return createMouse(mouse, labId, protocolId, userId);
     }
 
     // Find mouse by ID
@@ -98,14 +104,18 @@ public class MouseService {
         existingMouse.setDateOfBirth(updatedMouse.getDateOfBirth());
         existingMouse.setNotes(updatedMouse.getNotes());
 
-        return mouseRepository.save(existingMouse);
+        Mouse saved = mouseRepository.save(existingMouse);
+        eventPublisher.publishEvent(MouseChangedEvent.of(id));
+        return saved;
     }
 
     // Update mouse availability
     public Mouse updateAvailability(Long id, Boolean available) {
         Mouse existingMouse = findById(id);
         existingMouse.setAvailability(available);
-        return mouseRepository.save(existingMouse);
+        Mouse saved = mouseRepository.save(existingMouse);
+        eventPublisher.publishEvent(MouseChangedEvent.of(id));
+        return saved;
     }
 
     // Transfer mouse to different lab
@@ -114,7 +124,19 @@ public class MouseService {
         Lab newLab = labRepository.findById(newLabId).orElseThrow(() -> new RuntimeException("Lab not found with id: " + newLabId));
 
         mouse.setLab(newLab);
-        return mouseRepository.save(mouse);
+        Mouse saved = mouseRepository.save(mouse);
+        eventPublisher.publishEvent(MouseChangedEvent.of(mouseId));
+        return saved;
+    }
+
+    // Transfer an available mouse in one conditional UPDATE and mark it unavailable
+    // Returns false if a concurrent transfer already took it (or it left fromLabId)
+    public boolean transferIfAvailable(Long mouseId, Long fromLabId, Long toLabId) {
+        boolean transferred = mouseRepository.transferIfAvailable(mouseId, fromLabId, toLabId) == 1;
+        if (transferred) {
+            eventPublisher.publishEvent(MouseChangedEvent.of(mouseId));
+        }
+        return transferred;
     }
 
     // Assign mouse to protocol
@@ -130,41 +152,65 @@ public class MouseService {
     public void deleteMouse(Long id) {
         Mouse mouse = findById(id);
         mouseRepository.delete(mouse);
+        eventPublisher.publishEvent(MouseChangedEvent.of(id));
     }
 
     // Business logic methods
 
     // Get available mice in a lab
     public List<Mouse> getAvailableMiceByLab(Long labId) {
-        Lab lab = labRepository.findById(labId).orElseThrow(() -> new RuntimeException("Lab not found with id: " + labId));
+        requireLab(labId);
+        return mouseRepository.findAvailableByLabId(labId);
+    }
+
+    // Get a page of available mice in a lab
+    public Slice<Mouse> getAvailableMiceByLab(Long labId, Pageable pageable) {
+        requireLab(labId);
+        return mouseRepository.findAvailableByLabId(labId, pageable);
+    }
 
-        // TODO: create a custom repository method to filter
-        return findAll().stream()
-                .filter(m -> m.getLab().getLabId().equals(labId))
-                .filter(Mouse::getAvailability)
+    // Get available mice in a lab as list-view rows (one query via the "Mouse.summary" graph)
+    public List<MouseSummary> getAvailableMouseSummariesByLab(Long labId) {
+        return getAvailableMiceByLab(labId).stream()
+                .map(MouseSummary::from)
                 .toList();
     }
 
     // Get mice by protocol
     public List<Mouse> getMiceByProtocol(Long protocolId) {
-        return findAll().stream()
-                .filter(m -> m.getProtocol().getProtocolId().equals(protocolId))
-                .toList();
+        return mouseRepository.findByProtocolId(protocolId);
+    }
+
+    // Get a page of mice by protocol
+    public Page<Mouse> getMiceByProtocol(Long protocolId, Pageable pageable) {
+        return mouseRepository.findByProtocolId(protocolId, pageable);
     }
 
     // Get mice created by a user
     public List<Mouse> getMiceCreatedByUser(Long userId) {
-        return findAll().stream()
-                .filter(m -> m.getUser().getUserId().equals(userId))
-                .toList();
+        return mouseRepository.findByUserId(userId);
+    }
+
+    // Get a page of mice created by a user
+    public Page<Mouse> getMiceCreatedByUser(Long userId, Pageable pageable) {
+        return mouseRepository.findByUserId(userId, pageable);
     }
 
     // Get offspring of a mouse
     public List<Mouse> getOffspring(Long mouseId) {
-        return findAll().stream()
-                .filter(m -> (m.getMother() != null && m.getMother().getMouseId().equals(mouseId))
-                        || (m.getFather() != null && m.getFather().getMouseId().equals(mouseId)))
-                .toList();
+        return mouseRepository.findOffspring(mouseId);
+    }
+
+    // Get a page of offspring of a mouse
+    public Slice<Mouse> getOffspring(Long mouseId, Pageable pageable) {
+        return mouseRepository.findOffspring(mouseId, pageable);
+    }
+
+    // Existence check without loading the lab row
+    private void requireLab(Long labId) {
+        if (!labRepository.existsById(labId)) {
+            throw new RuntimeException("Lab not found with id: " + labId);
+        }
     }
 
     // Check if mouse exists
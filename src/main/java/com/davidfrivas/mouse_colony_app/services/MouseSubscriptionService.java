@@ -0,0 +1,100 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.config.SubscriptionProperties;
+import com.davidfrivas.mouse_colony_app.dtos.SubscriptionMatchSummary;
+import com.davidfrivas.mouse_colony_app.entities.MouseSubscription;
+import com.davidfrivas.mouse_colony_app.entities.User;
+import com.davidfrivas.mouse_colony_app.repositories.MouseSubscriptionRepository;
+import com.davidfrivas.mouse_colony_app.repositories.SubscriptionMatchRepository;
+import com.davidfrivas.mouse_colony_app.repositories.UserRepository;
+import jakarta.transaction.Transactional;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+// Want lists: standing queries for mice other labs make available
+// Matching happens in SubscriptionMatcher as mice change; matches are read here as a per-user inbox
+@AllArgsConstructor
+@Service
+public class MouseSubscriptionService {
+    private final MouseSubscriptionRepository subscriptionRepository;
+    private final SubscriptionMatchRepository matchRepository;
+    private final UserRepository userRepository;
+    private final SubscriptionMatcher subscriptionMatcher;
+    private final SubscriptionProperties properties;
+
+    // Register a standing query for a user (matched against mice that change from now on;
+    // use the facet search for what is available today)
+    public MouseSubscription subscribe(Long userId, MouseSubscription subscription) {
+        // Validation
+        if (isBlank(subscription.getStrain()) && isBlank(subscription.getGenotype())) {
+            throw new IllegalArgumentException("Strain or genotype is required");
+        }
+        if ((subscription.getMinAgeDays() != null && subscription.getMinAgeDays() < 0)
+                || (subscription.getMaxAgeDays() != null && subscription.getMaxAgeDays() < 0)) {
+            throw new IllegalArgumentException("Ages cannot be negative");
+        }
+        if (subscription.getMinAgeDays() != null && subscription.getMaxAgeDays() != null
+                && subscription.getMinAgeDays() > subscription.getMaxAgeDays()) {
+            throw new IllegalArgumentException("Minimum age cannot be greater than maximum age");
+        }
+
+        User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+        if (subscriptionRepository.countActiveByUserId(userId) >= properties.maxPerUser()) {
+            throw new IllegalStateException("A user can hold at most " + properties.maxPerUser() + " subscriptions");
+        }
+
+        subscription.setStrain(isBlank(subscription.getStrain()) ? null : subscription.getStrain());
+        subscription.setGenotype(isBlank(subscription.getGenotype()) ? null : subscription.getGenotype());
+        subscription.setUser(user);
+        subscription.setLab(user.getLab());
+        subscription.setActive(true);
+
+        MouseSubscription saved = subscriptionRepository.save(subscription);
+        subscriptionMatcher.add(saved);
+        return saved;
+    }
+
+    // Cancel a subscription (its recorded matches are kept)
+    public MouseSubscription cancel(Long subscriptionId) {
+        MouseSubscription subscription = findById(subscriptionId);
+        subscription.setActive(false);
+        MouseSubscription saved = subscriptionRepository.save(subscription);
+        subscriptionMatcher.remove(subscriptionId);
+        return saved;
+    }
+
+    // Find subscription by ID
+    public MouseSubscription findById(Long id) {
+        return subscriptionRepository.findById(id).orElseThrow(() -> new RuntimeException("Subscription not found with id: " + id));
+    }
+
+    // Get a user's active subscriptions
+    public List<MouseSubscription> getSubscriptions(Long userId) {
+        return subscriptionRepository.findActiveByUserId(userId);
+    }
+
+    // Get a user's matches after a cursor (pass the last matchId seen, or null for the oldest)
+    public List<SubscriptionMatchSummary> getMatches(Long userId, Long afterMatchId, int limit) {
+        if (limit < 1 || limit > properties.maxPageSize()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + properties.maxPageSize());
+        }
+        return matchRepository.findByUserIdAfter(userId, afterMatchId == null ? 0L : afterMatchId, Limit.of(limit));
+    }
+
+    // Mark matches as seen, returning how many were updated
+    @Transactional
+    public int markSeen(Long userId, Collection<Long> matchIds) {
+        if (matchIds == null || matchIds.isEmpty()) {
+            return 0;
+        }
+        return matchRepository.markSeen(userId, matchIds);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,68 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.dtos.LineageMember;
+import com.davidfrivas.mouse_colony_app.entities.Mouse;
+import com.davidfrivas.mouse_colony_app.repositories.LineageRow;
+import com.davidfrivas.mouse_colony_app.repositories.MouseRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@AllArgsConstructor
+@Service
+public class PedigreeService {
+    // Upper bound on traversal depth (MySQL's default cte_max_recursion_depth is 1000)
+    public static final int MAX_GENERATIONS = 100;
+
+    private final MouseRepository mouseRepository;
+
+    // Get ancestors of a mouse up to N generations back
+    public List<LineageMember> getAncestors(Long mouseId, int maxGenerations) {
+        validate(mouseId, maxGenerations);
+        return toMembers(mouseRepository.findAncestors(mouseId, maxGenerations));
+    }
+
+    // Get descendants of a mouse up to N generations forward
+    public List<LineageMember> getDescendants(Long mouseId, int maxGenerations) {
+        validate(mouseId, maxGenerations);
+        return toMembers(mouseRepository.findDescendants(mouseId, maxGenerations));
+    }
+
+    // Get every descendant of a founder mouse (e.g. a whole line)
+    public List<LineageMember> getAllDescendants(Long founderId) {
+        return getDescendants(founderId, MAX_GENERATIONS);
+    }
+
+    private void validate(Long mouseId, int maxGenerations) {
+        if (maxGenerations < 1 || maxGenerations > MAX_GENERATIONS) {
+            throw new IllegalArgumentException("Generations must be between 1 and " + MAX_GENERATIONS);
+        }
+        if (!mouseRepository.existsById(mouseId)) {
+            throw new RuntimeException("Mouse not found with id: " + mouseId);
+        }
+    }
+
+    // Load all relatives in one query and keep the CTE's generation ordering
+    private List<LineageMember> toMembers(List<LineageRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Mouse> miceById = new HashMap<>();
+        mouseRepository.findAllById(rows.stream().map(LineageRow::getMouseId).toList())
+                .forEach(m -> miceById.put(m.getMouseId(), m));
+
+        List<LineageMember> members = new ArrayList<>(rows.size());
+        for (LineageRow row : rows) {
+            Mouse mouse = miceById.get(row.getMouseId());
+            if (mouse != null) {
+                members.add(new LineageMember(mouse, row.getGeneration()));
+            }
+        }
+        return members;
+    }
+}
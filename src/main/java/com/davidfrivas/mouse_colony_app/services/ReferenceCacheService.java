@@ -0,0 +1,61 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.dtos.CacheRegionStats;
+import com.davidfrivas.mouse_colony_app.entities.Lab;
+import com.davidfrivas.mouse_colony_app.entities.ResearchProtocol;
+import com.davidfrivas.mouse_colony_app.entities.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AllArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+// Eviction and hit/miss reporting for the second-level cache of reference entities
+@AllArgsConstructor
+@Service
+public class ReferenceCacheService {
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictLab(Long labId) {
+        entityManagerFactory.getCache().evict(Lab.class, labId);
+    }
+
+    public void evictProtocol(Long protocolId) {
+        entityManagerFactory.getCache().evict(ResearchProtocol.class, protocolId);
+    }
+
+    public void evictUser(Long userId) {
+        entityManagerFactory.getCache().evict(User.class, userId);
+    }
+
+    // Drop every cached entity (e.g. after editing reference data directly in the database)
+    public void evictAll() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    // Hit/miss counters per cache region since startup
+    public List<CacheRegionStats> getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toStats(region, statistics.getCacheRegionStatistics(region)))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static CacheRegionStats toStats(String region, CacheRegionStatistics stats) {
+        if (stats == null) {
+            return null;
+        }
+        long hits = stats.getHitCount();
+        long misses = stats.getMissCount();
+        double hitRatio = hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+        return new CacheRegionStats(region, hits, misses, stats.getPutCount(), hitRatio);
+    }
+}
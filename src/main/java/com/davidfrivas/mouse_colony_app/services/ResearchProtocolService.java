@@ -7,8 +7,10 @@ import com.davidfrivas.mouse_colony_app.entities.User;
 import com.davidfrivas.mouse_colony_app.repositories.LabRepository;
 import com.davidfrivas.mouse_colony_app.repositories.ResearchProtocolRepository;
 import com.davidfrivas.mouse_colony_app.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -19,6 +21,8 @@ public class ResearchProtocolService {
     private final ResearchProtocolRepository protocolRepository;
     private final LabRepository labRepository;
     private final UserRepository userRepository;
+    private final ReferenceCacheService referenceCacheService;
+    private final EntityManager entityManager;
 
     // Create a new protocol
     public ResearchProtocol createProtocol(ResearchProtocol protocol, Long labId) {
@@ -46,6 +50,15 @@ public class ResearchProtocolService {
         return protocolRepository.findById(id).orElseThrow(() -> new RuntimeException("Protocol not found with id: " + id));
     }
 
+    // Find protocol by protocol number (served from the natural-id cache when possible)
+    @Transactional
+    public ResearchProtocol findByProtocolNumber(String protocolNumber) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(ResearchProtocol.class)
+                .loadOptional(protocolNumber)
+                .orElseThrow(() -> new RuntimeException("Protocol not found with number: " + protocolNumber));
+    }
+
     // Get all protocols
     public List<ResearchProtocol> findAll() {
         return (List<ResearchProtocol>) protocolRepository.findAll();
@@ -62,14 +75,19 @@ public class ResearchProtocolService {
         existingProtocol.setApprovalDate(updatedProtocol.getApprovalDate());
         existingProtocol.setExpirationDate(updatedProtocol.getExpirationDate());
 
-        return protocolRepository.save(existingProtocol);
+        ResearchProtocol saved = protocolRepository.save(existingProtocol);
+        // expiration_date is computed by the DB, so don't keep serving the pre-update copy
+        referenceCacheService.evictProtocol(id);
+        return saved;
     }
 
     // Update protocol status
     public ResearchProtocol updateStatus(Long id, String newStatus) {
         ResearchProtocol protocol = findById(id);
         protocol.setStatus(newStatus);
-        return protocolRepository.save(protocol);
+        ResearchProtocol saved = protocolRepository.save(protocol);
+        referenceCacheService.evictProtocol(id);
+        return saved;
     }
 
     // Delete protocol
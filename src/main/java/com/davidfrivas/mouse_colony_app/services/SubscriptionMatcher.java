@@ -0,0 +1,207 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.dtos.MouseFacetRow;
+import com.davidfrivas.mouse_colony_app.entities.Mouse;
+import com.davidfrivas.mouse_colony_app.entities.MouseSubscription;
+import com.davidfrivas.mouse_colony_app.events.MouseChangedEvent;
+import com.davidfrivas.mouse_colony_app.repositories.MouseRepository;
+import com.davidfrivas.mouse_colony_app.repositories.MouseSubscriptionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Incremental want-list matching: when mice change, only the subscriptions indexed under their
+// attributes are evaluated, instead of re-running every standing query
+// Each subscription is indexed once under its exact (strain, genotype, sex) criteria, nulls included,
+// so a mouse looks up the six keys it can satisfy and only the age range is left to check
+@Slf4j
+@Service
+public class SubscriptionMatcher {
+    private static final String INSERT_MATCH = """
+            INSERT IGNORE INTO subscription_match (subscription_id, user_id, mouse_id)
+            VALUES (?, ?, ?)
+            """;
+
+    private final MouseSubscriptionRepository subscriptionRepository;
+    private final MouseRepository mouseRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter matchCounter;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Predicate> byId = new HashMap<>();
+    private final Map<Key, List<Predicate>> byKey = new HashMap<>();
+
+    // Matching runs off the writer's thread; a slow insert doesn't hold up the mouse update
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SubscriptionMatcher(MouseSubscriptionRepository subscriptionRepository, MouseRepository mouseRepository,
+                               JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.mouseRepository = mouseRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.matchCounter = Counter.builder("colony.subscription.matches")
+                .description("Want-list matches recorded (before duplicate suppression)")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSubscriptions() {
+        List<MouseSubscription> subscriptions = subscriptionRepository.findAllActive();
+        subscriptions.forEach(this::add);
+        log.info("Loaded {} want-list subscriptions", subscriptions.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    // Index key; null components are "any" (strain and genotype are never both null)
+    private record Key(String strain, String genotype, Mouse.Sex sex) {
+    }
+
+    // A subscription's criteria, flattened so matching touches no entities
+    private record Predicate(long subscriptionId, long userId, long labId, String strain, String genotype,
+                             Mouse.Sex sex, Integer minAgeDays, Integer maxAgeDays) {
+
+        Key key() {
+            return new Key(strain, genotype, sex);
+        }
+
+        // Strain, genotype and sex already matched through the key
+        boolean matches(MouseFacetRow mouse, LocalDate today) {
+            if (mouse.labId() == labId) {
+                return false;
+            }
+            long ageDays = ChronoUnit.DAYS.between(mouse.dateOfBirth(), today);
+            return (minAgeDays == null || ageDays >= minAgeDays) && (maxAgeDays == null || ageDays <= maxAgeDays);
+        }
+    }
+
+    // Start matching a (saved, active) subscription
+    public void add(MouseSubscription subscription) {
+        Predicate predicate = new Predicate(
+                subscription.getSubscriptionId(),
+                subscription.getUser().getUserId(),
+                subscription.getLab().getLabId(),
+                subscription.getStrain(),
+                subscription.getGenotype(),
+                subscription.getSex(),
+                subscription.getMinAgeDays(),
+                subscription.getMaxAgeDays());
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(predicate.subscriptionId());
+            byId.put(predicate.subscriptionId(), predicate);
+            byKey.computeIfAbsent(predicate.key(), k -> new ArrayList<>()).add(predicate);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Stop matching a subscription
+    public void remove(Long subscriptionId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(subscriptionId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Runs after the writing transaction commits (or right away outside one)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMouseChanged(MouseChangedEvent event) {
+        List<Long> mouseIds = List.copyOf(event.mouseIds());
+        executor.execute(() -> {
+            try {
+                match(mouseIds);
+            } catch (RuntimeException e) {
+                log.warn("Want-list matching failed for {} mice", mouseIds.size(), e);
+            }
+        });
+    }
+
+    // Re-read the changed mice, evaluate the subscriptions indexed under their attributes,
+    // and record the matches in one batched INSERT IGNORE (a mouse matches a subscription once)
+    void match(Collection<Long> mouseIds) {
+        if (mouseIds.isEmpty() || size() == 0) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        List<Object[]> matches = new ArrayList<>();
+        for (MouseFacetRow mouse : mouseRepository.findFacetRows(mouseIds)) {
+            if (!Boolean.TRUE.equals(mouse.availability())) {
+                continue;
+            }
+            for (Predicate predicate : candidates(mouse)) {
+                if (predicate.matches(mouse, today)) {
+                    matches.add(new Object[]{predicate.subscriptionId(), predicate.userId(), mouse.mouseId()});
+                }
+            }
+        }
+
+        if (!matches.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_MATCH, matches);
+            matchCounter.increment(matches.size());
+        }
+    }
+
+    // Subscriptions whose strain/genotype/sex criteria the mouse satisfies (the buckets are disjoint)
+    private List<Predicate> candidates(MouseFacetRow mouse) {
+        List<Predicate> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (String strain : new String[]{mouse.strain(), null}) {
+                for (String genotype : new String[]{mouse.genotype(), null}) {
+                    if (strain == null && genotype == null) {
+                        continue;
+                    }
+                    candidates.addAll(byKey.getOrDefault(new Key(strain, genotype, mouse.sex()), List.of()));
+                    if (mouse.sex() != null) {
+                        candidates.addAll(byKey.getOrDefault(new Key(strain, genotype, null), List.of()));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return candidates;
+    }
+
+    private void removeLocked(Long subscriptionId) {
+        Predicate existing = byId.remove(subscriptionId);
+        if (existing == null) {
+            return;
+        }
+        List<Predicate> bucket = byKey.get(existing.key());
+        bucket.remove(existing);
+        if (bucket.isEmpty()) {
+            byKey.remove(existing.key());
+        }
+    }
+}
@@ -4,8 +4,10 @@ import com.davidfrivas.mouse_colony_app.entities.Lab;
 import com.davidfrivas.mouse_colony_app.entities.User;
 import com.davidfrivas.mouse_colony_app.repositories.LabRepository;
 import com.davidfrivas.mouse_colony_app.repositories.UserRepository;
-
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -15,6 +17,8 @@ import java.util.List;
 public class UserService {
     private final UserRepository userRepository;
     private final LabRepository labRepository;
+    private final ReferenceCacheService referenceCacheService;
+    private final EntityManager entityManager;
 
     // Create a new user
     public User createUser(User user, Long labId) {
@@ -39,6 +43,15 @@ public class UserService {
         return userRepository.findById(id).orElseThrow(() -> new RuntimeException("User not found with id " + id));
     }
 
+    // Find user by username (served from the natural-id cache when possible)
+    @Transactional
+    public User findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username)
+                .orElseThrow(() -> new RuntimeException("User not found with username " + username));
+    }
+
     // Get all users
     public List<User> findAll() {
         return (List<User>) userRepository.findAll();
@@ -54,7 +67,9 @@ public class UserService {
         existingUser.setRole(updatedUser.getRole());
         // Password updated in separate method
 
-        return userRepository.save(existingUser);
+        User saved = userRepository.save(existingUser);
+        referenceCacheService.evictUser(id); // Next read reloads the user from the DB
+        return saved;
     }
 
     // Update user's lab
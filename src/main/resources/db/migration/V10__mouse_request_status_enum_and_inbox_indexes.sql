@@ -0,0 +1,22 @@
+USE `mouse-colony-app`;
+
+-- Normalize legacy free-form status values before narrowing the column
+UPDATE mouse_request
+SET status = UPPER(TRIM(status))
+WHERE status <> UPPER(TRIM(status));
+
+-- Request status is a fixed lifecycle (see MouseRequest.Status)
+ALTER TABLE mouse_request
+    MODIFY status ENUM ('PENDING', 'APPROVED', 'REJECTED', 'CANCELLED') DEFAULT 'PENDING' NOT NULL;
+
+-- Inbox: requests for a lab's mice, by status, newest first
+CREATE INDEX idx_mouse_request_from_lab_status_created
+    ON mouse_request (from_lab_id, status, created_at);
+
+-- Outbox: requests made by a lab, by status, newest first
+CREATE INDEX idx_mouse_request_to_lab_status_created
+    ON mouse_request (to_lab_id, status, created_at);
+
+-- Institute-wide listing by status
+CREATE INDEX idx_mouse_request_status_created
+    ON mouse_request (status, created_at);
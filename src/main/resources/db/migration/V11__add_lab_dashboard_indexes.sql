@@ -0,0 +1,9 @@
+USE `mouse-colony-app`;
+
+-- Most recent litters of a lab (dashboard) without sorting all of them
+CREATE INDEX idx_litter_lab_dob
+    ON litter (lab_id, date_of_birth DESC);
+
+-- Active protocols of a lab
+CREATE INDEX idx_research_protocol_lab_status
+    ON research_protocol (lab_id, status);
@@ -0,0 +1,193 @@
+USE `mouse-colony-app`;
+
+-- Per-lab counters kept current by the triggers below, in the same transaction as the row change
+-- Triggers (rather than service code) also cover the native/bulk write paths: transfers, bulk decisions,
+-- imports and the colony generator
+-- FK cascades don't fire triggers; the only cascade that removes counted rows is fk_requestor_id
+-- (a deleted user's requests), compensated by a BEFORE DELETE trigger on user (mouse deletes are
+-- RESTRICTed by fk_mouse_id while requests exist); anything else is repaired by LabStatsService.reconcile()
+CREATE TABLE lab_stats
+(
+    lab_id                 BIGINT                                                         NOT NULL
+        PRIMARY KEY,
+    user_count             INT      DEFAULT 0                                             NOT NULL,
+    protocol_count         INT      DEFAULT 0                                             NOT NULL,
+    mouse_count            INT      DEFAULT 0                                             NOT NULL,
+    available_mouse_count  INT      DEFAULT 0                                             NOT NULL,
+    litter_count           INT      DEFAULT 0                                             NOT NULL,
+    pending_inbound_count  INT      DEFAULT 0                                             NOT NULL, -- requests for this lab's mice
+    pending_outbound_count INT      DEFAULT 0                                             NOT NULL, -- requests made by this lab
+    updated_at             DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT fk_lab_stats_lab_id
+        FOREIGN KEY (lab_id) REFERENCES lab (lab_id)
+            ON DELETE CASCADE
+);
+
+INSERT INTO lab_stats (lab_id, user_count, protocol_count, mouse_count, available_mouse_count, litter_count,
+                       pending_inbound_count, pending_outbound_count)
+SELECT l.lab_id,
+       (SELECT COUNT(*) FROM user u WHERE u.lab_id = l.lab_id),
+       (SELECT COUNT(*) FROM research_protocol p WHERE p.lab_id = l.lab_id),
+       (SELECT COUNT(*) FROM mouse m WHERE m.lab_id = l.lab_id),
+       (SELECT COUNT(*) FROM mouse m WHERE m.lab_id = l.lab_id AND m.availability = TRUE),
+       (SELECT COUNT(*) FROM litter lt WHERE lt.lab_id = l.lab_id),
+       (SELECT COUNT(*) FROM mouse_request r WHERE r.from_lab_id = l.lab_id AND r.status = 'PENDING'),
+       (SELECT COUNT(*) FROM mouse_request r WHERE r.to_lab_id = l.lab_id AND r.status = 'PENDING')
+FROM lab l;
+
+-- Labs
+CREATE TRIGGER trg_lab_stats_lab_insert
+    AFTER INSERT
+    ON lab
+    FOR EACH ROW
+    INSERT INTO lab_stats (lab_id) VALUES (NEW.lab_id);
+
+-- Users (boolean comparisons are 1/0, so one statement handles both sides of a lab change)
+CREATE TRIGGER trg_lab_stats_user_insert
+    AFTER INSERT
+    ON user
+    FOR EACH ROW
+    UPDATE lab_stats SET user_count = user_count + 1 WHERE lab_id = NEW.lab_id;
+
+CREATE TRIGGER trg_lab_stats_user_update
+    AFTER UPDATE
+    ON user
+    FOR EACH ROW
+    UPDATE lab_stats
+    SET user_count = user_count + (lab_id = NEW.lab_id) - (lab_id = OLD.lab_id)
+    WHERE lab_id IN (OLD.lab_id, NEW.lab_id)
+      AND OLD.lab_id <> NEW.lab_id;
+
+CREATE TRIGGER trg_lab_stats_user_delete
+    AFTER DELETE
+    ON user
+    FOR EACH ROW
+    UPDATE lab_stats SET user_count = user_count - 1 WHERE lab_id = OLD.lab_id;
+
+-- Protocols
+CREATE TRIGGER trg_lab_stats_protocol_insert
+    AFTER INSERT
+    ON research_protocol
+    FOR EACH ROW
+    UPDATE lab_stats SET protocol_count = protocol_count + 1 WHERE lab_id = NEW.lab_id;
+
+CREATE TRIGGER trg_lab_stats_protocol_update
+    AFTER UPDATE
+    ON research_protocol
+    FOR EACH ROW
+    UPDATE lab_stats
+    SET protocol_count = protocol_count + (lab_id = NEW.lab_id) - (lab_id = OLD.lab_id)
+    WHERE lab_id IN (OLD.lab_id, NEW.lab_id)
+      AND OLD.lab_id <> NEW.lab_id;
+
+CREATE TRIGGER trg_lab_stats_protocol_delete
+    AFTER DELETE
+    ON research_protocol
+    FOR EACH ROW
+    UPDATE lab_stats SET protocol_count = protocol_count - 1 WHERE lab_id = OLD.lab_id;
+
+-- Mice (transfers change lab_id, approvals and availability updates change availability)
+CREATE TRIGGER trg_lab_stats_mouse_insert
+    AFTER INSERT
+    ON mouse
+    FOR EACH ROW
+    UPDATE lab_stats
+    SET mouse_count           = mouse_count + 1,
+        available_mouse_count = available_mouse_count + (NEW.availability = TRUE)
+    WHERE lab_id = NEW.lab_id;
+
+CREATE TRIGGER trg_lab_stats_mouse_update
+    AFTER UPDATE
+    ON mouse
+    FOR EACH ROW
+    UPDATE lab_stats
+    SET mouse_count           = mouse_count + (lab_id = NEW.lab_id) - (lab_id = OLD.lab_id),
+        available_mouse_count = available_mouse_count
+            + (lab_id = NEW.lab_id AND NEW.availability = TRUE)
+            - (lab_id = OLD.lab_id AND OLD.availability = TRUE)
+    WHERE lab_id IN (OLD.lab_id, NEW.lab_id)
+      AND (OLD.lab_id <> NEW.lab_id OR OLD.availability <> NEW.availability);
+
+CREATE TRIGGER trg_lab_stats_mouse_delete
+    AFTER DELETE
+    ON mouse
+    FOR EACH ROW
+    UPDATE lab_stats
+    SET mouse_count           = mouse_count - 1,
+        available_mouse_count = available_mouse_count - (OLD.availability = TRUE)
+    WHERE lab_id = OLD.lab_id;
+
+-- Deleting a user cascades to the requests they made without firing their triggers, so take the pending ones off here
+CREATE TRIGGER trg_lab_stats_user_delete_requests
+    BEFORE DELETE
+    ON user
+    FOR EACH ROW
+    UPDATE lab_stats s
+        JOIN (SELECT lab_id, SUM(inbound) AS inbound, SUM(outbound) AS outbound
+              FROM (SELECT from_lab_id AS lab_id, 1 AS inbound, 0 AS outbound
+                    FROM mouse_request
+                    WHERE requestor_id = OLD.user_id AND status = 'PENDING'
+                    UNION ALL
+                    SELECT to_lab_id, 0, 1
+                    FROM mouse_request
+                    WHERE requestor_id = OLD.user_id AND status = 'PENDING') pending
+              GROUP BY lab_id) p ON p.lab_id = s.lab_id
+    SET s.pending_inbound_count  = s.pending_inbound_count - p.inbound,
+        s.pending_outbound_count = s.pending_outbound_count - p.outbound;
+
+-- Litters
+CREATE TRIGGER trg_lab_stats_litter_insert
+    AFTER INSERT
+    ON litter
+    FOR EACH ROW
+    UPDATE lab_stats SET litter_count = litter_count + 1 WHERE lab_id = NEW.lab_id;
+
+CREATE TRIGGER trg_lab_stats_litter_update
+    AFTER UPDATE
+    ON litter
+    FOR EACH ROW
+    UPDATE lab_stats
+    SET litter_count = litter_count + (lab_id = NEW.lab_id) - (lab_id = OLD.lab_id)
+    WHERE lab_id IN (OLD.lab_id, NEW.lab_id)
+      AND OLD.lab_id <> NEW.lab_id;
+
+CREATE TRIGGER trg_lab_stats_litter_delete
+    AFTER DELETE
+    ON litter
+    FOR EACH ROW
+    UPDATE lab_stats SET litter_count = litter_count - 1 WHERE lab_id = OLD.lab_id;
+
+-- Requests (only PENDING ones are counted)
+CREATE TRIGGER trg_lab_stats_request_insert
+    AFTER INSERT
+    ON mouse_request
+    FOR EACH ROW
+    UPDATE lab_stats
+    SET pending_inbound_count  = pending_inbound_count + (lab_id = NEW.from_lab_id),
+        pending_outbound_count = pending_outbound_count + (lab_id = NEW.to_lab_id)
+    WHERE lab_id IN (NEW.from_lab_id, NEW.to_lab_id)
+      AND NEW.status = 'PENDING';
+
+CREATE TRIGGER trg_lab_stats_request_update
+    AFTER UPDATE
+    ON mouse_request
+    FOR EACH ROW
+    UPDATE lab_stats
+    SET pending_inbound_count  = pending_inbound_count
+        + (lab_id = NEW.from_lab_id AND NEW.status = 'PENDING')
+        - (lab_id = OLD.from_lab_id AND OLD.status = 'PENDING'),
+        pending_outbound_count = pending_outbound_count
+            + (lab_id = NEW.to_lab_id AND NEW.status = 'PENDING')
+            - (lab_id = OLD.to_lab_id AND OLD.status = 'PENDING')
+    WHERE lab_id IN (OLD.from_lab_id, OLD.to_lab_id, NEW.from_lab_id, NEW.to_lab_id)
+      AND (OLD.status <> NEW.status OR OLD.from_lab_id <> NEW.from_lab_id OR OLD.to_lab_id <> NEW.to_lab_id);
+
+CREATE TRIGGER trg_lab_stats_request_delete
+    AFTER DELETE
+    ON mouse_request
+    FOR EACH ROW
+    UPDATE lab_stats
+    SET pending_inbound_count  = pending_inbound_count - (lab_id = OLD.from_lab_id),
+        pending_outbound_count = pending_outbound_count - (lab_id = OLD.to_lab_id)
+    WHERE lab_id IN (OLD.from_lab_id, OLD.to_lab_id)
+      AND OLD.status = 'PENDING';
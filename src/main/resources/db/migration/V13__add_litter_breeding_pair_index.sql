@@ -0,0 +1,7 @@
+USE `mouse-colony-app`;
+
+-- Litters by mother, by breeding pair, and either in birth order (also feeds the breeding-performance windows)
+-- The leading mother_id column serves fk_litter_mother_id, so its single-column index is dropped
+ALTER TABLE litter
+    ADD INDEX idx_litter_mother_father_dob (mother_id, father_id, date_of_birth),
+    DROP INDEX fk_litter_mother_id;
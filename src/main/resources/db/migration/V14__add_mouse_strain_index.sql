@@ -0,0 +1,5 @@
+USE `mouse-colony-app`;
+
+-- Available breeders of a strain (breeding-pair recommender)
+CREATE INDEX idx_mouse_strain_availability
+    ON mouse (strain, availability, sex);
@@ -0,0 +1,48 @@
+USE `mouse-colony-app`;
+
+-- Standing "want list" queries: a user wants to hear when a matching mouse becomes available in another lab
+-- NULL predicates match anything; strain or genotype is always set (the matcher indexes on it)
+CREATE TABLE mouse_subscription
+(
+    subscription_id BIGINT AUTO_INCREMENT
+        PRIMARY KEY,
+    user_id         BIGINT                             NOT NULL,
+    lab_id          BIGINT                             NOT NULL, -- subscriber's lab, its own mice never match
+    strain          VARCHAR(255)                       NULL,
+    genotype        VARCHAR(255)                       NULL,
+    sex             ENUM ('M', 'F')                    NULL,
+    min_age_days    INT                                NULL,
+    max_age_days    INT                                NULL,
+    active          BOOLEAN  DEFAULT TRUE              NOT NULL,
+    created_at      DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at      DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_mouse_subscription_user_active (user_id, active),
+    CONSTRAINT fk_mouse_subscription_user_id
+        FOREIGN KEY (user_id) REFERENCES user (user_id)
+            ON DELETE CASCADE,
+    CONSTRAINT fk_mouse_subscription_lab_id
+        FOREIGN KEY (lab_id) REFERENCES lab (lab_id)
+            ON DELETE CASCADE
+);
+
+-- Mice matched to a subscription, recorded once per pair and read by the subscriber in match_id order
+-- user_id is copied from the subscription so the inbox is a single index range
+CREATE TABLE subscription_match
+(
+    match_id        BIGINT AUTO_INCREMENT
+        PRIMARY KEY,
+    subscription_id BIGINT                             NOT NULL,
+    user_id         BIGINT                             NOT NULL,
+    mouse_id        BIGINT                             NOT NULL,
+    matched_at      DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    seen            BOOLEAN  DEFAULT FALSE             NOT NULL,
+    CONSTRAINT uq_subscription_match_subscription_mouse
+        UNIQUE (subscription_id, mouse_id),
+    INDEX idx_subscription_match_user_match (user_id, match_id),
+    CONSTRAINT fk_subscription_match_subscription_id
+        FOREIGN KEY (subscription_id) REFERENCES mouse_subscription (subscription_id)
+            ON DELETE CASCADE,
+    CONSTRAINT fk_subscription_match_mouse_id
+        FOREIGN KEY (mouse_id) REFERENCES mouse (mouse_id)
+            ON DELETE CASCADE
+);
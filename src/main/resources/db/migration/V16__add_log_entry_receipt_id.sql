@@ -0,0 +1,9 @@
+USE `mouse-colony-app`;
+
+-- Receipt handed out by write-behind ingestion, so a client can resolve it to the log_id once written
+-- NULL for entries written synchronously; the unique index allows any number of NULLs
+ALTER TABLE log_entry
+    ADD COLUMN receipt_id BINARY(16) NULL;
+
+CREATE UNIQUE INDEX uk_log_entry_receipt_id
+    ON log_entry (receipt_id);
@@ -0,0 +1,10 @@
+USE `mouse-colony-app`;
+
+-- Composite index for "available mice in a lab" lookups
+-- InnoDB appends the PK to secondary indexes, so results also come back in mouse_id order for paging
+CREATE INDEX idx_mouse_lab_availability
+    ON mouse (lab_id, availability);
+
+-- protocol_id, user_id, mother_id and father_id are already indexed by the indexes InnoDB
+-- creates for fk_mouse_protocol_id, fk_mouse_user_id, fk_mouse_mother_id and fk_mouse_father_id,
+-- so the protocol/user/offspring queries use those and no duplicate indexes are added here
@@ -0,0 +1,16 @@
+USE `mouse-colony-app`;
+
+-- Sequence table for pooled (hi-lo style) id allocation, so Hibernate can batch inserts
+-- (IDENTITY columns force one INSERT round trip per row)
+CREATE TABLE id_sequence
+(
+    sequence_name VARCHAR(64) NOT NULL
+        PRIMARY KEY,
+    next_val      BIGINT      NOT NULL
+);
+
+-- Seed the mouse sequence above existing ids
+-- The headroom keeps the first pooled block (allocation size 50) clear of rows inserted via AUTO_INCREMENT
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'mouse', COALESCE(MAX(mouse_id), 0) + 100
+FROM mouse;
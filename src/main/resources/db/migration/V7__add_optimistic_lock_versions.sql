@@ -0,0 +1,12 @@
+USE `mouse-colony-app`;
+
+-- Version columns for optimistic locking on mice and transfer requests
+ALTER TABLE mouse
+    ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE mouse_request
+    ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+-- Competing requests for a mouse are looked up by (mouse_id, status) when one is approved
+CREATE INDEX idx_mouse_request_mouse_status
+    ON mouse_request (mouse_id, status);
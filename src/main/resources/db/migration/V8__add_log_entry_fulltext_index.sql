@@ -0,0 +1,5 @@
+USE `mouse-colony-app`;
+
+-- Full-text index for log entry keyword search (MATCH ... AGAINST)
+ALTER TABLE log_entry
+    ADD FULLTEXT INDEX ft_log_entry_content (content);
@@ -0,0 +1,34 @@
+USE `mouse-colony-app`;
+
+-- Top-N recent entries per lab without sorting the lab's whole history
+CREATE INDEX idx_log_entry_lab_created
+    ON log_entry (lab_id, created_at DESC);
+
+-- Lets the archival job find entries past the retention horizon
+CREATE INDEX idx_log_entry_created_at
+    ON log_entry (created_at);
+
+-- Cold storage for log entries past the retention horizon
+-- InnoDB can't partition tables with foreign keys, so old rows are moved here instead
+-- No FKs: archived history must survive deletion of the users/labs/mice it mentions
+CREATE TABLE log_entry_archive
+(
+    log_id      BIGINT                             NOT NULL
+        PRIMARY KEY,
+    user_id     BIGINT                             NULL,
+    lab_id      BIGINT                             NOT NULL,
+    content     TEXT                               NOT NULL,
+    created_at  DATETIME                           NOT NULL,
+    archived_at DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    INDEX idx_log_entry_archive_lab_created (lab_id, created_at)
+) ROW_FORMAT = COMPRESSED;
+
+-- Archived copy of the mouse_log_entry junction rows
+CREATE TABLE mouse_log_entry_archive
+(
+    log_id   BIGINT NOT NULL,
+    mouse_id BIGINT NOT NULL,
+    CONSTRAINT pk_mouse_log_entry_archive
+        PRIMARY KEY (log_id, mouse_id),
+    INDEX idx_mouse_log_entry_archive_mouse (mouse_id)
+) ROW_FORMAT = COMPRESSED;
@@ -0,0 +1,117 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.entities.*;
+import com.davidfrivas.mouse_colony_app.repositories.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.davidfrivas.mouse_colony_app.services.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Many labs approving requests for the same mouse at once: exactly one approval may win
+@SpringBootTest
+class ConcurrentApprovalTests {
+    private static final int THREADS = 32;
+
+    @Autowired
+    private MouseRequestService requestService;
+    @Autowired
+    private MouseRequestRepository requestRepository;
+    @Autowired
+    private MouseRepository mouseRepository;
+    @Autowired
+    private LabRepository labRepository;
+    @Autowired
+    private ResearchProtocolRepository protocolRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Lab> labs = new ArrayList<>();
+    private final List<MouseRequest> requests = new ArrayList<>();
+    private ResearchProtocol protocol;
+    private User user;
+    private Mouse mouse;
+
+    @BeforeEach
+    void seed() {
+        Lab owner = labRepository.save(lab("Owner lab"));
+        labs.add(owner);
+
+        protocol = protocolRepository.save(protocol("CA", owner));
+        user = userRepository.save(user("ca", owner));
+        mouse = mouseRepository.save(mouse("Popular mouse", Mouse.Sex.F, true, owner, protocol, user));
+
+        // One pending request per competing lab
+        for (int i = 0; i < THREADS; i++) {
+            Lab requester = labRepository.save(lab("Requesting lab " + i));
+            labs.add(requester);
+            requests.add(requestRepository.save(pendingRequest(user, mouse, owner, requester)));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        // Delete by id: the seeded instances carry stale versions after the test
+        requestRepository.deleteAllById(requests.stream().map(MouseRequest::getRequestId).toList());
+        mouseRepository.deleteById(mouse.getMouseId());
+        userRepository.deleteById(user.getUserId());
+        protocolRepository.deleteById(protocol.getProtocolId());
+        labRepository.deleteAllById(labs.stream().map(Lab::getLabId).toList());
+    }
+
+    @Test
+    void exactlyOneApprovalWins() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger approved = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (MouseRequest request : requests) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    requestService.approveRequest(request.getRequestId());
+                    approved.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    refused.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(1, approved.get());
+        assertEquals(THREADS - 1, refused.get());
+
+        // The winner's lab owns the mouse, which is no longer available
+        MouseRequest winner = requests.stream()
+                .map(r -> requestRepository.findById(r.getRequestId()).orElseThrow())
+                .filter(r -> r.getStatus() == MouseRequest.Status.APPROVED)
+                .findFirst()
+                .orElseThrow();
+        Mouse transferred = mouseRepository.findById(mouse.getMouseId()).orElseThrow();
+        assertFalse(transferred.getAvailability());
+        assertEquals(winner.getToLab().getLabId(), transferred.getLab().getLabId());
+
+        // Every competing request was rejected
+        long rejected = requests.stream()
+                .map(r -> requestRepository.findById(r.getRequestId()).orElseThrow())
+                .filter(r -> r.getStatus() == MouseRequest.Status.REJECTED)
+                .count();
+        assertEquals(THREADS - 1, rejected);
+    }
+}
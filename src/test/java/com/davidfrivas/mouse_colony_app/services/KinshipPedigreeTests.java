@@ -0,0 +1,57 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Textbook kinship values on a small pedigree (no database needed)
+class KinshipPedigreeTests {
+    // 1 x 2 founders; 3 (M) and 4 (F) their full sibs; 5 from the 3 x 4 sib mating;
+    // 6 (M) a half sib of 3 by founder dam 7; 8 from the 3 x 5 father-daughter mating
+    private final KinshipPedigree pedigree = KinshipPedigree.of(
+            new long[]{5, 3, 4, 1, 2, 6, 7, 8},
+            new long[]{3, 1, 1, 0, 0, 1, 0, 3},
+            new long[]{4, 2, 2, 0, 0, 7, 0, 5});
+
+    @Test
+    void inbreedingFollowsTheParentsKinship() {
+        assertEquals(0.0, inbreeding(3), 1e-12);
+        assertEquals(0.25, inbreeding(5), 1e-12);   // Full-sib mating
+        assertEquals(0.375, inbreeding(8), 1e-12);  // Father x (inbred) daughter
+    }
+
+    @Test
+    void recommendsTheLeastRelatedDisjointPairs() {
+        List<KinshipPedigree.Pairing> pairs = pedigree.lowestKinshipPairs(
+                new int[]{index(4), index(7)}, new int[]{index(3), index(6)}, 5, 5);
+
+        assertEquals(2, pairs.size());
+        // Unrelated founder dam with 3, then the half sibs 4 and 6
+        assertPair(pairs.get(0), 7, 3, 0.0);
+        assertPair(pairs.get(1), 4, 6, 0.125);
+    }
+
+    @Test
+    void fullSiblingsHaveKinshipOneQuarter() {
+        List<KinshipPedigree.Pairing> pairs = pedigree.lowestKinshipPairs(
+                new int[]{index(4)}, new int[]{index(3)}, 1, 1);
+
+        assertPair(pairs.get(0), 4, 3, 0.25);
+    }
+
+    private void assertPair(KinshipPedigree.Pairing pair, long femaleId, long maleId, double kinship) {
+        assertEquals(femaleId, pedigree.idAt(pair.female()));
+        assertEquals(maleId, pedigree.idAt(pair.male()));
+        assertEquals(kinship, pair.kinship(), 1e-12);
+    }
+
+    private double inbreeding(long mouseId) {
+        return pedigree.inbreeding(index(mouseId));
+    }
+
+    private int index(long mouseId) {
+        return pedigree.indexOf(mouseId);
+    }
+}
@@ -0,0 +1,106 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.entities.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.davidfrivas.mouse_colony_app.services.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// lab_stats must follow every create/transfer/delete, and reconcile() must repair drift
+@SpringBootTest
+@Transactional
+class LabStatsTests {
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private LabStatsService labStatsService;
+    @Autowired
+    private MouseService mouseService;
+
+    private Lab fromLab;
+    private Lab toLab;
+    private ResearchProtocol protocol;
+    private User user;
+
+    @BeforeEach
+    void seed() {
+        fromLab = persist(lab("Stats from lab"));
+        toLab = persist(lab("Stats to lab"));
+        protocol = persist(protocol("LS", fromLab));
+        user = persist(user("ls", fromLab));
+    }
+
+    @Test
+    void countersFollowCreatesTransfersAndDeletes() {
+        Mouse requested = persistMouse(true);
+        Mouse available = persistMouse(true);
+        Mouse unavailable = persistMouse(false);
+        MouseRequest request = persist(pendingRequest(user, requested, fromLab, toLab));
+        sync();
+
+        LabStats from = labStatsService.getStats(fromLab.getLabId());
+        assertEquals(1, from.getUserCount());
+        assertEquals(1, from.getProtocolCount());
+        assertEquals(3, from.getMouseCount());
+        assertEquals(2, from.getAvailableMouseCount());
+        assertEquals(1, from.getPendingInboundCount());
+        assertEquals(1, labStatsService.getStats(toLab.getLabId()).getPendingOutboundCount());
+
+        // Transfer marks the mouse unavailable and moves it
+        assertTrue(mouseService.transferIfAvailable(requested.getMouseId(), fromLab.getLabId(), toLab.getLabId()));
+        sync();
+        assertEquals(2, labStatsService.getStats(fromLab.getLabId()).getMouseCount());
+        assertEquals(1, labStatsService.getStats(fromLab.getLabId()).getAvailableMouseCount());
+        assertEquals(1, labStatsService.getStats(toLab.getLabId()).getMouseCount());
+        assertEquals(0, labStatsService.getStats(toLab.getLabId()).getAvailableMouseCount());
+
+        // A mouse with requests can't be deleted (fk_mouse_id is RESTRICT), so the request goes first
+        jdbcTemplate.update("DELETE FROM mouse_request WHERE request_id = ?", request.getRequestId());
+        sync();
+        assertEquals(0, labStatsService.getStats(fromLab.getLabId()).getPendingInboundCount());
+        assertEquals(0, labStatsService.getStats(toLab.getLabId()).getPendingOutboundCount());
+
+        jdbcTemplate.update("DELETE FROM mouse WHERE mouse_id IN (?, ?, ?)",
+                requested.getMouseId(), available.getMouseId(), unavailable.getMouseId());
+        sync();
+        assertEquals(0, labStatsService.getStats(fromLab.getLabId()).getMouseCount());
+        assertEquals(0, labStatsService.getStats(fromLab.getLabId()).getAvailableMouseCount());
+        assertEquals(0, labStatsService.getStats(toLab.getLabId()).getMouseCount());
+    }
+
+    @Test
+    void reconcileRepairsDrift() {
+        persistMouse(true);
+        sync();
+        jdbcTemplate.update("UPDATE lab_stats SET mouse_count = 42, available_mouse_count = 0 WHERE lab_id = ?", fromLab.getLabId());
+
+        assertTrue(labStatsService.reconcile() >= 1);
+        sync();
+
+        LabStats stats = labStatsService.getStats(fromLab.getLabId());
+        assertEquals(1, stats.getMouseCount());
+        assertEquals(1, stats.getAvailableMouseCount());
+    }
+
+    private void sync() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private Mouse persistMouse(boolean available) {
+        return persist(mouse("Stats mouse", Mouse.Sex.F, available, fromLab, protocol, user));
+    }
+}
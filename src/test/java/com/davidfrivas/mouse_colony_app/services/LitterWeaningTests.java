@@ -0,0 +1,104 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.dtos.WeaningReport;
+import com.davidfrivas.mouse_colony_app.dtos.WeaningRequest;
+import com.davidfrivas.mouse_colony_app.entities.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.davidfrivas.mouse_colony_app.services.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Weaning cost must not grow with the number of pups
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class LitterWeaningTests {
+    private static final int LITTERS = 4;
+    private static final int PUPS_PER_LITTER = 12;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private LitterWeaningService weaningService;
+
+    private Statistics statistics;
+    private User user;
+    private final List<Litter> litters = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Lab lab = persist(lab("Weaning lab"));
+        ResearchProtocol protocol = persist(protocol("WN", lab));
+        user = persist(user("wn", lab));
+
+        for (int i = 0; i < LITTERS; i++) {
+            Mouse mother = persist(mouse("Dam " + i, Mouse.Sex.F, true, lab, protocol, user));
+            Mouse father = persist(mouse("Sire " + i, Mouse.Sex.M, true, lab, protocol, user));
+            litters.add(persist(litter("Litter " + i, mother, father, LocalDate.now().minusWeeks(3))));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void weaningManyLittersUsesBatchedInserts() {
+        List<WeaningRequest> requests = litters.stream()
+                .map(litter -> new WeaningRequest(litter.getLitterId(), user.getUserId(), null, pups(litter)))
+                .toList();
+
+        WeaningReport report = weaningService.weanLitters(requests);
+
+        assertEquals(LITTERS * PUPS_PER_LITTER, report.weanedPups());
+        // Litters + users + a few id_sequence reads + one batched INSERT per 50 mice, far below one per pup
+        assertTrue(statistics.getPrepareStatementCount() <= 8, "Statements: " + statistics.getPrepareStatementCount());
+
+        entityManager.clear();
+        Litter litter = litters.get(0);
+        Mouse pup = entityManager.find(Mouse.class, report.litters().get(0).mouseIds().get(0));
+        assertEquals(litter.getLitterId(), pup.getLitter().getLitterId());
+        assertEquals(litter.getMother().getMouseId(), pup.getMother().getMouseId());
+        assertEquals(litter.getFather().getMouseId(), pup.getFather().getMouseId());
+        assertEquals(litter.getDateOfBirth(), pup.getDateOfBirth());
+        assertEquals("C57BL/6", pup.getStrain());
+    }
+
+    @Test
+    void unknownLitterRejectsTheWholeCall() {
+        List<WeaningRequest> requests = List.of(
+                new WeaningRequest(litters.get(0).getLitterId(), user.getUserId(), null, pups(litters.get(0))),
+                new WeaningRequest(-1L, user.getUserId(), null, pups(litters.get(1))));
+
+        assertThrows(IllegalArgumentException.class, () -> weaningService.weanLitters(requests));
+    }
+
+    private static List<WeaningRequest.Pup> pups(Litter litter) {
+        List<WeaningRequest.Pup> pups = new ArrayList<>();
+        for (int i = 0; i < PUPS_PER_LITTER; i++) {
+            pups.add(new WeaningRequest.Pup(litter.getName() + " pup " + i, i % 2 == 0 ? Mouse.Sex.F : Mouse.Sex.M,
+                    "WT", null, null, null));
+        }
+        return pups;
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,100 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.dtos.LitterSummary;
+import com.davidfrivas.mouse_colony_app.dtos.MouseRequestSummary;
+import com.davidfrivas.mouse_colony_app.dtos.MouseSummary;
+import com.davidfrivas.mouse_colony_app.entities.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.davidfrivas.mouse_colony_app.services.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// List views must cost a constant number of statements, however many rows they return
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ReadModelQueryCountTests {
+    private static final int ROWS = 20;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MouseService mouseService;
+    @Autowired
+    private LitterService litterService;
+    @Autowired
+    private MouseRequestService requestService;
+
+    private Statistics statistics;
+    private Lab fromLab;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        fromLab = persist(lab("From lab"));
+        Lab toLab = persist(lab("To lab"));
+        ResearchProtocol protocol = persist(protocol("QC", fromLab));
+        User user = persist(user("qc", fromLab));
+
+        for (int i = 0; i < ROWS; i++) {
+            Mouse mother = persist(mouse("Dam " + i, Mouse.Sex.F, true, fromLab, protocol, user));
+            Mouse father = persist(mouse("Sire " + i, Mouse.Sex.M, true, fromLab, protocol, user));
+            persist(litter("Litter " + i, mother, father, LocalDate.now()));
+            persist(pendingRequest(user, mother, fromLab, toLab));
+        }
+
+        // Start the measured calls from an empty persistence context
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void availableMiceByLabUsesConstantStatements() {
+        List<MouseSummary> mice = mouseService.getAvailableMouseSummariesByLab(fromLab.getLabId());
+
+        assertEquals(ROWS * 2, mice.size());
+        // Lab existence check + one mouse query
+        assertTrue(statistics.getPrepareStatementCount() <= 2, statementReport());
+    }
+
+    @Test
+    void littersByLabUseConstantStatements() {
+        List<LitterSummary> litters = litterService.getLitterSummariesByLab(fromLab.getLabId());
+
+        assertEquals(ROWS, litters.size());
+        assertTrue(statistics.getPrepareStatementCount() <= 1, statementReport());
+    }
+
+    @Test
+    void pendingRequestsForLabUseConstantStatements() {
+        List<MouseRequestSummary> requests = requestService.getPendingRequestSummariesForLab(fromLab.getLabId());
+
+        assertEquals(ROWS, requests.size());
+        assertTrue(statistics.getPrepareStatementCount() <= 1, statementReport());
+    }
+
+    private String statementReport() {
+        return "Statements: " + statistics.getPrepareStatementCount()
+                + ", entity fetches: " + statistics.getEntityFetchCount();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,82 @@
+package com.davidfrivas.mouse_colony_app.services;
+
+import com.davidfrivas.mouse_colony_app.entities.*;
+
+import java.time.LocalDate;
+
+// Unsaved entities for seeding integration tests; persist them with the EntityManager or a repository
+// Unique columns (protocol number, username, email) get a per-call suffix so tests don't collide
+final class TestFixtures {
+    private TestFixtures() {
+    }
+
+    static Lab lab(String name) {
+        return Lab.builder()
+                .name(name)
+                .contactEmail("lab@example.org")
+                .institution("Institute")
+                .department("Department")
+                .address("Address")
+                .description(name + " (test lab)")
+                .build();
+    }
+
+    static ResearchProtocol protocol(String prefix, Lab lab) {
+        return ResearchProtocol.builder()
+                .protocolNumber(prefix + "-" + System.nanoTime())
+                .title(prefix + " protocol")
+                .description("Test protocol")
+                .lab(lab)
+                .status("APPROVED")
+                .build();
+    }
+
+    static User user(String prefix, Lab lab) {
+        long suffix = System.nanoTime();
+        return User.builder()
+                .username(prefix + "-" + suffix)
+                .name(prefix + " user")
+                .email(prefix + "-" + suffix + "@example.org")
+                .password("secret")
+                .lab(lab)
+                .role("MANAGER")
+                .build();
+    }
+
+    // A three-month-old wild-type C57BL/6 mouse
+    static Mouse mouse(String name, Mouse.Sex sex, boolean available, Lab lab, ResearchProtocol protocol, User user) {
+        return Mouse.builder()
+                .name(name)
+                .sex(sex)
+                .genotype("WT")
+                .strain("C57BL/6")
+                .dateOfBirth(LocalDate.now().minusMonths(3))
+                .availability(available)
+                .lab(lab)
+                .protocol(protocol)
+                .user(user)
+                .build();
+    }
+
+    static Litter litter(String name, Mouse mother, Mouse father, LocalDate dateOfBirth) {
+        return Litter.builder()
+                .name(name)
+                .lab(mother.getLab())
+                .mother(mother)
+                .father(father)
+                .protocol(mother.getProtocol())
+                .dateOfBirth(dateOfBirth)
+                .build();
+    }
+
+    static MouseRequest pendingRequest(User requestor, Mouse mouse, Lab fromLab, Lab toLab) {
+        return MouseRequest.builder()
+                .requestor(requestor)
+                .mouse(mouse)
+                .fromLab(fromLab)
+                .toLab(toLab)
+                .message("Please share")
+                .status(MouseRequest.Status.PENDING)
+                .build();
+    }
+}